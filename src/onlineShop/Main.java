@@ -1,11 +1,51 @@
 package onlineShop;
 
+import onlineShop.core.ControllerImpl;
 import onlineShop.core.EngineImpl;
+import onlineShop.core.OrderArchive;
+import onlineShop.core.interfaces.Controller;
 import onlineShop.core.interfaces.Engine;
+import onlineShop.io.AsyncOutputWriter;
+import onlineShop.io.ConsoleReader;
+import onlineShop.io.binary.BinaryEngine;
 
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Usage: {@code Main [--binary] [--orders-file <path>]}. Without {@code --orders-file}, sold orders that
+ * leave the in-memory window go to a temporary file that is removed on exit.
+ */
 public class Main {
+    private static final int ORDER_WINDOW = 1_000;
+
     public static void main(String[] args) {
-        Engine engine = new EngineImpl();
+        boolean binary = false;
+        Path ordersFile = null;
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--binary")) {
+                binary = true;
+            } else if (args[i].equals("--orders-file") && i + 1 < args.length) {
+                ordersFile = Paths.get(args[++i]);
+            }
+        }
+
+        Controller controller = new ControllerImpl(new OrderArchive(ORDER_WINDOW, ordersFile));
+        Engine engine;
+
+        if (binary) {
+            engine = new BinaryEngine(controller,
+                    Channels.newChannel(new FileInputStream(FileDescriptor.in)),
+                    Channels.newChannel(new FileOutputStream(FileDescriptor.out)));
+        } else {
+            engine = new EngineImpl(controller, new ConsoleReader(), new AsyncOutputWriter());
+        }
+
         engine.run();
     }
 }
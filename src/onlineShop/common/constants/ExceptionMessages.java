@@ -35,4 +35,12 @@ public class ExceptionMessages {
 
     public static final String CAN_NOT_BUY_COMPUTER = "Can't buy a computer with a budget of ${%.2f}.";
 
+    public static final String EMPTY_ORDER_BATCH = "At least one budget is required.";
+
+    public static final String EMPTY_TRANSACTION = "Transaction must contain at least one command.";
+
+    public static final String INVALID_TRANSACTION_COMMAND = "Only AddComputer, AddComponent and AddPeripheral commands can be part of a transaction.";
+
+    public static final String TRANSACTION_ABORTED = "Transaction aborted at command %d, no changes were made: %s";
+
 }
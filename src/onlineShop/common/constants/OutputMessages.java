@@ -19,5 +19,25 @@ public class OutputMessages {
 
     public static final String COMPUTER_COMPONENTS_TO_STRING = "Components (%d):";
 
+    public static final String FILLED_ORDER = "Order %d with a budget of ${%.2f} bought computer with id %d.";
+
+    public static final String NOT_FILLED_ORDER = "Order %d with a budget of ${%.2f} was not filled.";
+
     public static final String COMPUTER_PERIPHERALS_TO_STRING = "Peripherals (%d); Average Overall Performance (%.2f):";
+
+    public static final String INVENTORY_STATS_TO_STRING = "Inventory: %d computers; Total Value: %.2f; Average Overall Performance: %.2f; Max Overall Performance: %.2f";
+
+    public static final String INVENTORY_COMPUTERS_TO_STRING = "Computers: %s";
+
+    public static final String INVENTORY_COMPONENTS_TO_STRING = "Components: %s";
+
+    public static final String INVENTORY_PERIPHERALS_TO_STRING = "Peripherals: %s";
+
+    public static final String CATALOG_REPORT_BY_MANUFACTURER = "By Manufacturer (%d):";
+
+    public static final String CATALOG_REPORT_BY_COMPUTER_TYPE = "By Computer Type (%d):";
+
+    public static final String CATALOG_REPORT_BY_GENERATION = "By Component Generation (%d):";
+
+    public static final String CATALOG_REPORT_DISTRIBUTION = "Count: %d; Price min/avg/max: %.2f/%.2f/%.2f; Overall Performance min/avg/max: %.2f/%.2f/%.2f";
 }
@@ -9,5 +9,9 @@ public enum CommandType {
     BuyComputer,
     BuyBestComputer,
     GetComputerData,
-    Close
+    Close,
+    BuyBestComputers,
+    InventoryStats,
+    CatalogReport,
+    Transaction
 }
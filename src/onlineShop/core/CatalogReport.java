@@ -0,0 +1,124 @@
+package onlineShop.core;
+
+import onlineShop.common.constants.OutputMessages;
+import onlineShop.models.products.components.Component;
+import onlineShop.models.products.computers.ComputerSnapshot;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Price and performance distribution of the catalog per manufacturer, per computer type and per
+ * component generation. Built in a single parallel pass over computer snapshots: each worker fills its
+ * own groups and the partial results are merged pairwise, so no shared state is locked.
+ */
+public class CatalogReport {
+    private final Map<String, Distribution> byManufacturer;
+    private final Map<String, Distribution> byComputerType;
+    private final Map<Integer, Distribution> byGeneration;
+
+    private CatalogReport() {
+        this.byManufacturer = new TreeMap<>();
+        this.byComputerType = new TreeMap<>();
+        this.byGeneration = new TreeMap<>();
+    }
+
+    public static CatalogReport of(Stream<ComputerSnapshot> computers) {
+        return computers.parallel().collect(CatalogReport::new, CatalogReport::accept, CatalogReport::combine);
+    }
+
+    private void accept(ComputerSnapshot computer) {
+        group(byManufacturer, computer.getManufacturer()).accept(computer.getPrice(), computer.getOverallPerformance());
+        group(byComputerType, computer.getType()).accept(computer.getPrice(), computer.getOverallPerformance());
+
+        for (Component component : computer.getComponents()) {
+            group(byGeneration, component.getGeneration()).accept(component.getPrice(), component.getOverallPerformance());
+        }
+    }
+
+    private void combine(CatalogReport other) {
+        merge(byManufacturer, other.byManufacturer);
+        merge(byComputerType, other.byComputerType);
+        merge(byGeneration, other.byGeneration);
+    }
+
+    private static <K> Distribution group(Map<K, Distribution> groups, K key) {
+        return groups.computeIfAbsent(key, k -> new Distribution());
+    }
+
+    private static <K> void merge(Map<K, Distribution> groups, Map<K, Distribution> other) {
+        other.forEach((key, distribution) -> groups.merge(key, distribution, Distribution::combine));
+    }
+
+    public Map<String, Distribution> getByManufacturer() {
+        return this.byManufacturer;
+    }
+
+    public Map<String, Distribution> getByComputerType() {
+        return this.byComputerType;
+    }
+
+    public Map<Integer, Distribution> getByGeneration() {
+        return this.byGeneration;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        append(result, OutputMessages.CATALOG_REPORT_BY_MANUFACTURER, byManufacturer);
+        append(result, OutputMessages.CATALOG_REPORT_BY_COMPUTER_TYPE, byComputerType);
+        append(result, OutputMessages.CATALOG_REPORT_BY_GENERATION, byGeneration);
+
+        return result.toString().trim();
+    }
+
+    private static void append(StringBuilder result, String title, Map<?, Distribution> groups) {
+        result.append(String.format(title, groups.size()));
+        result.append(System.lineSeparator());
+
+        for (Map.Entry<?, Distribution> group : groups.entrySet()) {
+            result.append(" ").append(group.getKey()).append(": ").append(group.getValue());
+            result.append(System.lineSeparator());
+        }
+    }
+
+    public static class Distribution {
+        private final DoubleSummaryStatistics prices;
+        private final DoubleSummaryStatistics performances;
+
+        private Distribution() {
+            this.prices = new DoubleSummaryStatistics();
+            this.performances = new DoubleSummaryStatistics();
+        }
+
+        private void accept(double price, double performance) {
+            prices.accept(price);
+            performances.accept(performance);
+        }
+
+        private Distribution combine(Distribution other) {
+            prices.combine(other.prices);
+            performances.combine(other.performances);
+
+            return this;
+        }
+
+        public DoubleSummaryStatistics getPrices() {
+            return this.prices;
+        }
+
+        public DoubleSummaryStatistics getPerformances() {
+            return this.performances;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(OutputMessages.CATALOG_REPORT_DISTRIBUTION,
+                    prices.getCount(),
+                    prices.getMin(), prices.getAverage(), prices.getMax(),
+                    performances.getMin(), performances.getAverage(), performances.getMax());
+        }
+    }
+}
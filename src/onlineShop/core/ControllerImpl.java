@@ -2,192 +2,506 @@ package onlineShop.core;
 
 import onlineShop.common.constants.ExceptionMessages;
 import onlineShop.common.constants.OutputMessages;
+import onlineShop.core.TieredComputerStore.Listing;
 import onlineShop.core.interfaces.Controller;
+import onlineShop.core.operations.AddComponentOperation;
+import onlineShop.core.operations.AddComputerOperation;
+import onlineShop.core.operations.AddPeripheralOperation;
+import onlineShop.core.operations.Operation;
 import onlineShop.models.products.components.*;
 import onlineShop.models.products.computers.Computer;
+import onlineShop.models.products.computers.ComputerSnapshot;
 import onlineShop.models.products.computers.DesktopComputer;
 import onlineShop.models.products.computers.Laptop;
 import onlineShop.models.products.peripherals.*;
 
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Mutating operations are serialized on the controller, while {@link #getComputerData(int)} only takes
+ * the store's lock for a non-promoting lookup and then reads the computer's current immutable parts
+ * snapshot, so readers never evict a computer a writer is about to mutate. Cold computers are read from
+ * the spill file after the store's lock is released, so queries never wait for writers' disk I/O and
+ * writers never wait for theirs.
+ */
 public class ControllerImpl implements Controller {
     private static final String COMPUTER_PACKAGE_NAME = "onlineShop.models.products.computers.";
-    private Map<Integer, Computer> computerMap;
-    private Map<Integer, Component> componentMap;
-    private Map<Integer, Peripheral> peripheralMap;
+    private TieredComputerStore computerStore;
+    private Set<Integer> componentIds;
+    private Set<Integer> peripheralIds;
+    private OrderArchive orderArchive;
+    private InventoryStatistics inventoryStatistics;
 
     public ControllerImpl() {
-        computerMap = new HashMap<>();
-        componentMap = new HashMap<>();
-        peripheralMap = new HashMap<>();
+        this(new OrderArchive());
     }
 
-    @Override
-    public String addComputer(String computerType, int id, String manufacturer, String model, double price) throws NoSuchMethodException, ClassNotFoundException {
-        Computer computer = null;
+    public ControllerImpl(OrderArchive orderArchive) {
+        this(orderArchive, new TieredComputerStore());
+    }
+
+    public ControllerImpl(OrderArchive orderArchive, TieredComputerStore computerStore) {
+        this.orderArchive = orderArchive;
+        this.inventoryStatistics = new InventoryStatistics();
+        this.computerStore = computerStore;
+        componentIds = ConcurrentHashMap.newKeySet();
+        peripheralIds = ConcurrentHashMap.newKeySet();
+    }
 
-        if (computerMap.containsKey(id)) {
+    @Override
+    public synchronized String addComputer(String computerType, int id, String manufacturer, String model, double price) throws NoSuchMethodException, ClassNotFoundException {
+        if (computerStore.containsKey(id)) {
             throw new IllegalArgumentException(ExceptionMessages.EXISTING_COMPUTER_ID);
         }
 
-        switch (computerType) {
-            case "DesktopComputer":
-                computer = new DesktopComputer(id, manufacturer, model, price);
-                break;
-            case "Laptop":
-                computer = new Laptop(id, manufacturer, model, price);
-                break;
-            default:
-                throw new IllegalArgumentException(ExceptionMessages.INVALID_COMPUTER_TYPE);
-        }
+        Computer computer = createComputer(computerType, id, manufacturer, model, price);
 
-        computerMap.put(id, computer);
+        computerStore.put(computer);
+        inventoryStatistics.computerAdded(computer);
 
         return String.format(OutputMessages.ADDED_COMPUTER, id);
     }
 
     @Override
-    public String addPeripheral(int computerId, int id, String peripheralType, String manufacturer, String model, double price, double overallPerformance, String connectionType) {
-        if (!computerMap.containsKey(computerId)) {
+    public synchronized String addPeripheral(int computerId, int id, String peripheralType, String manufacturer, String model, double price, double overallPerformance, String connectionType) {
+        if (!computerStore.containsKey(computerId)) {
             throw new IllegalArgumentException(ExceptionMessages.NOT_EXISTING_COMPUTER_ID);
         }
 
-        if (peripheralMap.containsKey(id)) {
+        if (peripheralIds.contains(id) || orderArchive.isPeripheralIdReserved(id)) {
             throw new IllegalArgumentException(ExceptionMessages.EXISTING_PERIPHERAL_ID);
         }
 
-        Peripheral peripheral = null;
+        Peripheral peripheral = createPeripheral(id, peripheralType, manufacturer, model, price, overallPerformance, connectionType);
 
-        switch (peripheralType) {
-            case "Headset":
-                peripheral = new Headset(id, manufacturer, model, price, overallPerformance, connectionType);
-                break;
-            case "Keyboard":
-                peripheral = new Keyboard(id, manufacturer, model, price, overallPerformance, connectionType);
-                break;
-            case "Monitor":
-                peripheral = new Monitor(id, manufacturer, model, price, overallPerformance, connectionType);
-                break;
-            case "Mouse":
-                peripheral = new Mouse(id, manufacturer, model, price, overallPerformance, connectionType);
-                break;
-            default:
-                throw new IllegalArgumentException(ExceptionMessages.INVALID_PERIPHERAL_TYPE);
-        }
+        Computer computer = computerStore.get(computerId);
+        double oldPrice = computer.getPrice();
+        double oldPerformance = computer.getOverallPerformance();
 
-        computerMap.get(computerId).addPeripheral(peripheral);
-        peripheralMap.put(id, peripheral);
+        computer.addPeripheral(peripheral);
+        peripheralIds.add(id);
+        inventoryStatistics.peripheralAdded(computer, peripheral, oldPrice, oldPerformance);
 
         return String.format(OutputMessages.ADDED_PERIPHERAL, peripheralType, id,computerId);
     }
 
     @Override
-    public String removePeripheral(String peripheralType, int computerId) {
-        if (!computerMap.containsKey(computerId)) {
+    public synchronized String removePeripheral(String peripheralType, int computerId) {
+        if (!computerStore.containsKey(computerId)) {
             throw new IllegalArgumentException(ExceptionMessages.NOT_EXISTING_COMPUTER_ID);
         }
 
-        Peripheral removedPeripheral = computerMap.get(computerId).removePeripheral(peripheralType);
-        peripheralMap.remove(removedPeripheral.getId());
+        Computer computer = computerStore.get(computerId);
+        double oldPrice = computer.getPrice();
+        double oldPerformance = computer.getOverallPerformance();
+
+        Peripheral removedPeripheral = computer.removePeripheral(peripheralType);
+        peripheralIds.remove(removedPeripheral.getId());
+        inventoryStatistics.peripheralRemoved(computer, removedPeripheral, oldPrice, oldPerformance);
 
         return String.format(OutputMessages.REMOVED_PERIPHERAL,peripheralType, removedPeripheral.getId());
     }
 
     @Override
-    public String addComponent(int computerId, int id, String componentType, String manufacturer, String model, double price, double overallPerformance, int generation) {
-        if (!computerMap.containsKey(computerId)) {
+    public synchronized String addComponent(int computerId, int id, String componentType, String manufacturer, String model, double price, double overallPerformance, int generation) {
+        if (!computerStore.containsKey(computerId)) {
             throw new IllegalArgumentException(ExceptionMessages.NOT_EXISTING_COMPUTER_ID);
         }
 
-        if (componentMap.containsKey(id)) {
+        if (componentIds.contains(id) || orderArchive.isComponentIdReserved(id)) {
             throw new IllegalArgumentException(ExceptionMessages.EXISTING_COMPONENT_ID);
         }
 
-        Component component = null;
+        Component component = createComponent(id, componentType, manufacturer, model, price, overallPerformance, generation);
 
-        switch (componentType) {
-            case "CentralProcessingUnit":
-                component = new CentralProcessingUnit(id, manufacturer, model, price, overallPerformance, generation);
-                break;
-            case "Motherboard":
-                component = new Motherboard(id, manufacturer, model, price, overallPerformance, generation);
-                break;
-            case "PowerSupply":
-                component = new PowerSupply(id, manufacturer, model, price, overallPerformance, generation);
-                break;
-            case "RandomAccessMemory":
-                component = new RandomAccessMemory(id, manufacturer, model, price, overallPerformance, generation);
-                break;
-            case "SolidStateDrive":
-                component = new SolidStateDrive(id, manufacturer, model, price, overallPerformance, generation);
-                break;
-            case "VideoCard":
-                component = new VideoCard(id, manufacturer, model, price, overallPerformance, generation);
-                break;
-            default:
-                throw new IllegalArgumentException(ExceptionMessages.INVALID_COMPONENT_TYPE);
-        }
+        Computer computer = computerStore.get(computerId);
+        double oldPrice = computer.getPrice();
+        double oldPerformance = computer.getOverallPerformance();
 
-        computerMap.get(computerId).addComponent(component);
-        componentMap.put(id, component);
+        computer.addComponent(component);
+        componentIds.add(id);
+        inventoryStatistics.componentAdded(computer, component, oldPrice, oldPerformance);
 
         return String.format(OutputMessages.ADDED_COMPONENT, componentType,id, computerId);
     }
 
     @Override
-    public String removeComponent(String componentType, int computerId) {
-        if (!computerMap.containsKey(computerId)) {
+    public synchronized String removeComponent(String componentType, int computerId) {
+        if (!computerStore.containsKey(computerId)) {
             throw new IllegalArgumentException(ExceptionMessages.NOT_EXISTING_COMPUTER_ID);
         }
 
-        Component removedComponent = computerMap.get(computerId).removeComponent(componentType);
-        componentMap.remove(removedComponent.getId());
+        Computer computer = computerStore.get(computerId);
+        double oldPrice = computer.getPrice();
+        double oldPerformance = computer.getOverallPerformance();
+
+        Component removedComponent = computer.removeComponent(componentType);
+        componentIds.remove(removedComponent.getId());
+        inventoryStatistics.componentRemoved(computer, removedComponent, oldPrice, oldPerformance);
 
         return String.format(OutputMessages.REMOVED_COMPONENT, componentType, removedComponent.getId());
     }
 
     @Override
-    public String buyComputer(int id) {
-        if (!computerMap.containsKey(id)) {
+    public synchronized String buyComputer(int id) {
+        if (!computerStore.containsKey(id)) {
             throw new IllegalArgumentException(ExceptionMessages.NOT_EXISTING_COMPUTER_ID);
         }
 
-        Computer removedComputer = computerMap.remove(id);
+        Computer removedComputer = computerStore.remove(id);
+        archiveSoldComputers(List.of(removedComputer));
 
         return removedComputer.toString();
     }
 
     @Override
-    public String BuyBestComputer(double budget) {
-        List<Computer> filteredComputers = computerMap.values().stream()
+    public synchronized String BuyBestComputer(double budget) {
+        Optional<Listing> best = computerStore.listings().stream()
                 .filter(c -> c.getPrice() <= budget)
-                .sorted(Comparator.comparing(Computer::getOverallPerformance).reversed())
-                .collect(Collectors.toList());
+                .min(Comparator.comparing(Listing::getOverallPerformance).reversed().thenComparing(Listing::getId));
 
-        if (filteredComputers.isEmpty()) {
+        if (best.isEmpty()) {
             throw new IllegalArgumentException(String.format(ExceptionMessages.CAN_NOT_BUY_COMPUTER, budget));
         }
 
-        Computer bestComputer = filteredComputers.get(0);
-
-        computerMap.remove(bestComputer.getId());
+        Computer bestComputer = computerStore.remove(best.get().getId());
+        archiveSoldComputers(List.of(bestComputer));
 
         return bestComputer.toString();
     }
 
     @Override
     public String getComputerData(int id) {
-        if (!computerMap.containsKey(id)) {
+        Computer computer = computerStore.peek(id);
+
+        if (computer == null) {
             throw new IllegalArgumentException(ExceptionMessages.NOT_EXISTING_COMPUTER_ID);
         }
 
-        Computer computer = computerMap.get(id);
         return computer.toString();
     }
+
+    /**
+     * Fills all orders in one sweep. Fairness rule: orders are served from the smallest budget up (equal
+     * budgets in submission order) and each receives the highest-performance computer it can afford among
+     * those still unsold. Because every larger budget can afford whatever a smaller one could, serving
+     * small budgets first never leaves a fillable order empty, so the number of filled orders is maximal.
+     * Runs in O((n + m) log n) for n computers and m orders, plus sorting the orders.
+     */
+    @Override
+    public synchronized String buyBestComputers(double[] budgets) {
+        if (budgets.length == 0) {
+            throw new IllegalArgumentException(ExceptionMessages.EMPTY_ORDER_BATCH);
+        }
+
+        List<Listing> computers = computerStore.listings();
+
+        double[] prices = new double[computers.size()];
+        double[] performances = new double[computers.size()];
+        for (int i = 0; i < computers.size(); i++) {
+            prices[i] = computers.get(i).getPrice();
+            performances[i] = computers.get(i).getOverallPerformance();
+        }
+
+        Integer[] byPrice = new Integer[computers.size()];
+        for (int i = 0; i < byPrice.length; i++) {
+            byPrice[i] = i;
+        }
+        Arrays.sort(byPrice, Comparator.comparingDouble(i -> prices[i]));
+
+        Integer[] byBudget = new Integer[budgets.length];
+        for (int i = 0; i < byBudget.length; i++) {
+            byBudget[i] = i;
+        }
+        Arrays.sort(byBudget, Comparator.comparingDouble(i -> budgets[i]));
+
+        PriorityQueue<Integer> affordable = new PriorityQueue<>(
+                Comparator.<Integer>comparingDouble(i -> performances[i]).reversed()
+                        .thenComparingInt(i -> computers.get(i).getId()));
+        Listing[] assigned = new Listing[budgets.length];
+        int next = 0;
+
+        for (int order : byBudget) {
+            while (next < byPrice.length && prices[byPrice[next]] <= budgets[order]) {
+                affordable.add(byPrice[next++]);
+            }
+
+            if (!affordable.isEmpty()) {
+                assigned[order] = computers.get(affordable.poll());
+            }
+        }
+
+        List<Computer> sold = new ArrayList<>();
+        computerStore.update(() -> {
+            for (Listing computer : assigned) {
+                if (computer != null) {
+                    sold.add(computerStore.remove(computer.getId()));
+                }
+            }
+        });
+        archiveSoldComputers(sold);
+
+        StringBuilder result = new StringBuilder();
+        for (int order = 0; order < budgets.length; order++) {
+            Listing computer = assigned[order];
+
+            if (computer == null) {
+                result.append(String.format(OutputMessages.NOT_FILLED_ORDER, order + 1, budgets[order]));
+            } else {
+                result.append(String.format(OutputMessages.FILLED_ORDER, order + 1, budgets[order], computer.getId()));
+            }
+
+            result.append(System.lineSeparator());
+        }
+
+        return result.toString().trim();
+    }
+
+    @Override
+    public String getInventoryStats() {
+        return inventoryStatistics.toString();
+    }
+
+    /**
+     * Recomputes the statistics from the whole inventory and returns whether they exactly match the
+     * incrementally maintained ones. Blocks writers while it runs.
+     */
+    synchronized boolean inventoryStatsMatchRecomputation() {
+        try (Stream<ComputerSnapshot> computers = computerStore.snapshots()) {
+            return inventoryStatistics.matches(InventoryStatistics.of(computers));
+        }
+    }
+
+    /**
+     * Builds the report from per-computer snapshots without holding the controller lock, so writers keep
+     * running while it is computed; cold computers are read outside the store lock as well.
+     */
+    @Override
+    public String getCatalogReport() {
+        try (Stream<ComputerSnapshot> computers = computerStore.snapshots()) {
+            return CatalogReport.of(computers).toString();
+        }
+    }
+
+    /**
+     * Applies a group of AddComputer/AddComponent/AddPeripheral operations all or nothing. Every operation
+     * is validated and its product built first. Then every existing target computer is loaded and pinned
+     * in the hot set, the only step that can still fail on store I/O. Only after that is the inventory
+     * touched, with one parts version per affected computer.
+     */
+    @Override
+    public synchronized String executeTransaction(List<Operation> operations) {
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException(ExceptionMessages.EMPTY_TRANSACTION);
+        }
+
+        Map<Integer, Computer> newComputers = new LinkedHashMap<>();
+        Map<Integer, List<Component>> newComponents = new LinkedHashMap<>();
+        Map<Integer, List<Peripheral>> newPeripherals = new LinkedHashMap<>();
+        Map<Integer, Integer> existingComputers = new LinkedHashMap<>();
+        Set<Integer> stagedComponentIds = new HashSet<>();
+        Set<Integer> stagedPeripheralIds = new HashSet<>();
+        StringBuilder result = new StringBuilder();
+
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+
+            try {
+                switch (operation.getCommand()) {
+                    case AddComputer: {
+                        AddComputerOperation addComputer = (AddComputerOperation) operation;
+                        int id = addComputer.getId();
+                        if (computerStore.containsKey(id) || newComputers.containsKey(id)) {
+                            throw new IllegalArgumentException(ExceptionMessages.EXISTING_COMPUTER_ID);
+                        }
+
+                        newComputers.put(id, createComputer(addComputer.getComputerType(), id,
+                                addComputer.getManufacturer(), addComputer.getModel(), addComputer.getPrice()));
+                        result.append(String.format(OutputMessages.ADDED_COMPUTER, id));
+                        break;
+                    }
+                    case AddComponent: {
+                        AddComponentOperation addComponent = (AddComponentOperation) operation;
+                        int computerId = addComponent.getComputerId();
+                        int id = addComponent.getId();
+                        checkTransactionComputer(computerId, i, newComputers, existingComputers);
+                        if (componentIds.contains(id) || orderArchive.isComponentIdReserved(id) || !stagedComponentIds.add(id)) {
+                            throw new IllegalArgumentException(ExceptionMessages.EXISTING_COMPONENT_ID);
+                        }
+
+                        newComponents.computeIfAbsent(computerId, k -> new ArrayList<>())
+                                .add(createComponent(id, addComponent.getComponentType(), addComponent.getManufacturer(),
+                                        addComponent.getModel(), addComponent.getPrice(),
+                                        addComponent.getOverallPerformance(), addComponent.getGeneration()));
+                        result.append(String.format(OutputMessages.ADDED_COMPONENT, addComponent.getComponentType(), id, computerId));
+                        break;
+                    }
+                    case AddPeripheral: {
+                        AddPeripheralOperation addPeripheral = (AddPeripheralOperation) operation;
+                        int computerId = addPeripheral.getComputerId();
+                        int id = addPeripheral.getId();
+                        checkTransactionComputer(computerId, i, newComputers, existingComputers);
+                        if (peripheralIds.contains(id) || orderArchive.isPeripheralIdReserved(id) || !stagedPeripheralIds.add(id)) {
+                            throw new IllegalArgumentException(ExceptionMessages.EXISTING_PERIPHERAL_ID);
+                        }
+
+                        newPeripherals.computeIfAbsent(computerId, k -> new ArrayList<>())
+                                .add(createPeripheral(id, addPeripheral.getPeripheralType(), addPeripheral.getManufacturer(),
+                                        addPeripheral.getModel(), addPeripheral.getPrice(),
+                                        addPeripheral.getOverallPerformance(), addPeripheral.getConnectionType()));
+                        result.append(String.format(OutputMessages.ADDED_PERIPHERAL, addPeripheral.getPeripheralType(), id, computerId));
+                        break;
+                    }
+                    default:
+                        throw new IllegalArgumentException(ExceptionMessages.INVALID_TRANSACTION_COMMAND);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format(ExceptionMessages.TRANSACTION_ABORTED, i + 1, e.getMessage()));
+            }
+
+            result.append(System.lineSeparator());
+        }
+
+        Map<Integer, Computer> targets = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Integer, Integer> existing : existingComputers.entrySet()) {
+                try {
+                    targets.put(existing.getKey(), computerStore.pin(existing.getKey()));
+                } catch (UncheckedIOException e) {
+                    throw new IllegalArgumentException(String.format(ExceptionMessages.TRANSACTION_ABORTED,
+                            existing.getValue() + 1, e.getMessage()));
+                }
+            }
+
+            computerStore.update(() -> inventoryStatistics.update(
+                    () -> applyTransaction(targets.values(), newComputers.values(), newComponents, newPeripherals)));
+        } finally {
+            targets.keySet().forEach(computerStore::unpin);
+        }
+
+        return result.toString().trim();
+    }
+
+    /**
+     * Installs the staged parts on the pinned existing computers and stores the new ones. Nothing here
+     * can fail, and it runs as one store and statistics update, so catalog snapshots and inventory
+     * statistics see the whole transaction or none of it.
+     */
+    private void applyTransaction(Collection<Computer> targets, Collection<Computer> newComputers,
+                                  Map<Integer, List<Component>> newComponents, Map<Integer, List<Peripheral>> newPeripherals) {
+        for (Computer computer : targets) {
+            List<Component> components = newComponents.getOrDefault(computer.getId(), List.of());
+            List<Peripheral> peripherals = newPeripherals.getOrDefault(computer.getId(), List.of());
+            double oldPrice = computer.getPrice();
+            double oldPerformance = computer.getOverallPerformance();
+
+            computer.addParts(components, peripherals);
+            registerParts(components, peripherals);
+            inventoryStatistics.partsAdded(computer, components, peripherals, oldPrice, oldPerformance);
+        }
+
+        for (Computer computer : newComputers) {
+            List<Component> components = newComponents.getOrDefault(computer.getId(), List.of());
+            List<Peripheral> peripherals = newPeripherals.getOrDefault(computer.getId(), List.of());
+
+            computer.addParts(components, peripherals);
+            registerParts(components, peripherals);
+            computerStore.put(computer);
+            inventoryStatistics.computerAdded(computer);
+        }
+    }
+
+    /**
+     * Remembers the first operation that targets each existing computer, to report store failures there.
+     */
+    private void checkTransactionComputer(int computerId, int operation, Map<Integer, Computer> newComputers,
+                                          Map<Integer, Integer> existingComputers) {
+        if (newComputers.containsKey(computerId)) {
+            return;
+        }
+
+        if (!computerStore.containsKey(computerId)) {
+            throw new IllegalArgumentException(ExceptionMessages.NOT_EXISTING_COMPUTER_ID);
+        }
+
+        existingComputers.putIfAbsent(computerId, operation);
+    }
+
+    private void registerParts(List<Component> components, List<Peripheral> peripherals) {
+        components.forEach(c -> componentIds.add(c.getId()));
+        peripherals.forEach(p -> peripheralIds.add(p.getId()));
+    }
+
+    /**
+     * Removes the sold computers from the statistics in one batch, so a concurrent statistics read sees
+     * all of them sold or none, then releases their part ids and archives the orders.
+     */
+    private void archiveSoldComputers(List<Computer> computers) {
+        inventoryStatistics.update(() -> computers.forEach(inventoryStatistics::computerRemoved));
+
+        for (Computer computer : computers) {
+            computer.getComponents().forEach(c -> componentIds.remove(c.getId()));
+            computer.getPeripherals().forEach(p -> peripheralIds.remove(p.getId()));
+            orderArchive.archive(computer);
+        }
+    }
+
+    private Computer createComputer(String computerType, int id, String manufacturer, String model, double price) {
+        switch (computerType) {
+            case "DesktopComputer":
+                return new DesktopComputer(id, manufacturer, model, price);
+            case "Laptop":
+                return new Laptop(id, manufacturer, model, price);
+            default:
+                throw new IllegalArgumentException(ExceptionMessages.INVALID_COMPUTER_TYPE);
+        }
+    }
+
+    private Component createComponent(int id, String componentType, String manufacturer, String model, double price, double overallPerformance, int generation) {
+        switch (componentType) {
+            case "CentralProcessingUnit":
+                return new CentralProcessingUnit(id, manufacturer, model, price, overallPerformance, generation);
+            case "Motherboard":
+                return new Motherboard(id, manufacturer, model, price, overallPerformance, generation);
+            case "PowerSupply":
+                return new PowerSupply(id, manufacturer, model, price, overallPerformance, generation);
+            case "RandomAccessMemory":
+                return new RandomAccessMemory(id, manufacturer, model, price, overallPerformance, generation);
+            case "SolidStateDrive":
+                return new SolidStateDrive(id, manufacturer, model, price, overallPerformance, generation);
+            case "VideoCard":
+                return new VideoCard(id, manufacturer, model, price, overallPerformance, generation);
+            default:
+                throw new IllegalArgumentException(ExceptionMessages.INVALID_COMPONENT_TYPE);
+        }
+    }
+
+    private Peripheral createPeripheral(int id, String peripheralType, String manufacturer, String model, double price, double overallPerformance, String connectionType) {
+        switch (peripheralType) {
+            case "Headset":
+                return new Headset(id, manufacturer, model, price, overallPerformance, connectionType);
+            case "Keyboard":
+                return new Keyboard(id, manufacturer, model, price, overallPerformance, connectionType);
+            case "Monitor":
+                return new Monitor(id, manufacturer, model, price, overallPerformance, connectionType);
+            case "Mouse":
+                return new Mouse(id, manufacturer, model, price, overallPerformance, connectionType);
+            default:
+                throw new IllegalArgumentException(ExceptionMessages.INVALID_PERIPHERAL_TYPE);
+        }
+    }
 }
@@ -1,44 +1,61 @@
 package onlineShop.core;
 
 
+import onlineShop.common.constants.ExceptionMessages;
 import onlineShop.common.enums.CommandType;
 import onlineShop.core.interfaces.Controller;
 import onlineShop.core.interfaces.Engine;
+import onlineShop.core.operations.AddComponentOperation;
+import onlineShop.core.operations.AddComputerOperation;
+import onlineShop.core.operations.AddPeripheralOperation;
+import onlineShop.core.operations.Operation;
+import onlineShop.io.AsyncOutputWriter;
 import onlineShop.io.ConsoleReader;
-import onlineShop.io.ConsoleWriter;
 import onlineShop.io.interfaces.InputReader;
 import onlineShop.io.interfaces.OutputWriter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 public class EngineImpl implements Engine {
+    public static final String TRANSACTION_SEPARATOR = ";";
+
     private InputReader reader;
     private OutputWriter writer;
     private Controller controller;
 
     public EngineImpl() {
-        this.controller = new ControllerImpl();   //TODO Implement first
-        this.reader = new ConsoleReader();
-        this.writer = new ConsoleWriter();
+        this(new ControllerImpl(), new ConsoleReader(), new AsyncOutputWriter());
+    }
+
+    public EngineImpl(Controller controller, InputReader reader, OutputWriter writer) {
+        this.controller = controller;
+        this.reader = reader;
+        this.writer = writer;
     }
 
     @Override
     public void run() {
-        while (true) {
-            String result = null;
-            try {
-                result = processInput();
+        try {
+            while (true) {
+                String result = null;
+                try {
+                    result = processInput();
 
-                if ("Close".equals(result)) {
-                    break;
+                    if ("Close".equals(result)) {
+                        break;
+                    }
+
+                } catch (IOException | IllegalArgumentException | NullPointerException | NoSuchMethodException | ClassNotFoundException e) {
+                    result = e.getMessage();
                 }
 
-            } catch (IOException | IllegalArgumentException | NullPointerException | NoSuchMethodException | ClassNotFoundException e) {
-                result = e.getMessage();
+                this.writer.writeLine(result);
             }
-
-            this.writer.writeLine(result);
+        } finally {
+            this.writer.close();
         }
     }
 
@@ -51,13 +68,11 @@ public class EngineImpl implements Engine {
 
         switch (command) { // TODO Implement first
             case AddComputer:
-                return this.controller.addComputer(data[0], Integer.parseInt(data[1]), data[2], data[3], Double.parseDouble(data[4]));
             case AddPeripheral:
-                return this.controller.addPeripheral(Integer.parseInt(data[0]), Integer.parseInt(data[1]), data[2], data[3], data[4], Double.parseDouble(data[5]), Double.parseDouble(data[6]), data[7]);
+            case AddComponent:
+                return parseOperation(command, data).applyTo(this.controller);
             case RemovePeripheral:
                 return this.controller.removePeripheral(data[0], Integer.parseInt(data[1]));
-            case AddComponent:
-                return this.controller.addComponent(Integer.parseInt(data[0]), Integer.parseInt(data[1]), data[2], data[3], data[4], Double.parseDouble(data[5]), Double.parseDouble(data[6]), Integer.parseInt(data[7]));
             case RemoveComponent:
                 return this.controller.removeComponent(data[0], Integer.parseInt(data[1]));
             case BuyComputer:
@@ -66,6 +81,14 @@ public class EngineImpl implements Engine {
                 return this.controller.BuyBestComputer(Double.parseDouble(data[0]));
             case GetComputerData:
                 return controller.getComputerData(Integer.parseInt(data[0]));
+            case BuyBestComputers:
+                return this.controller.buyBestComputers(Arrays.stream(data).mapToDouble(Double::parseDouble).toArray());
+            case InventoryStats:
+                return this.controller.getInventoryStats();
+            case CatalogReport:
+                return this.controller.getCatalogReport();
+            case Transaction:
+                return this.controller.executeTransaction(parseTransaction(data));
             case Close:
                 return "Close";
         }
@@ -73,4 +96,42 @@ public class EngineImpl implements Engine {
         return null;
     }
 
+    private static Operation parseOperation(CommandType command, String[] data) {
+        switch (command) {
+            case AddComputer:
+                return new AddComputerOperation(data[0], Integer.parseInt(data[1]), data[2], data[3], Double.parseDouble(data[4]));
+            case AddPeripheral:
+                return new AddPeripheralOperation(Integer.parseInt(data[0]), Integer.parseInt(data[1]), data[2], data[3], data[4], Double.parseDouble(data[5]), Double.parseDouble(data[6]), data[7]);
+            case AddComponent:
+                return new AddComponentOperation(Integer.parseInt(data[0]), Integer.parseInt(data[1]), data[2], data[3], data[4], Double.parseDouble(data[5]), Double.parseDouble(data[6]), Integer.parseInt(data[7]));
+            default:
+                throw new IllegalArgumentException(ExceptionMessages.INVALID_TRANSACTION_COMMAND);
+        }
+    }
+
+    /**
+     * Splits the transaction on {@link #TRANSACTION_SEPARATOR} and parses every grouped command, so a
+     * malformed command aborts the transaction before the controller sees it.
+     */
+    private static List<Operation> parseTransaction(String[] data) {
+        List<Operation> operations = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 0; i <= data.length; i++) {
+            if (i == data.length || TRANSACTION_SEPARATOR.equals(data[i])) {
+                if (i > start) {
+                    try {
+                        operations.add(parseOperation(CommandType.valueOf(data[start]), Arrays.copyOfRange(data, start + 1, i)));
+                    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                        throw new IllegalArgumentException(String.format(ExceptionMessages.TRANSACTION_ABORTED,
+                                operations.size() + 1, e.getMessage()));
+                    }
+                }
+                start = i + 1;
+            }
+        }
+
+        return operations;
+    }
+
 }
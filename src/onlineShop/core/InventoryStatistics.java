@@ -0,0 +1,222 @@
+package onlineShop.core;
+
+import onlineShop.common.constants.OutputMessages;
+import onlineShop.models.products.Product;
+import onlineShop.models.products.components.Component;
+import onlineShop.models.products.computers.Computer;
+import onlineShop.models.products.computers.ComputerSnapshot;
+import onlineShop.models.products.peripherals.Peripheral;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Aggregates over the live inventory, maintained incrementally on every mutation so that reads are O(1).
+ * Sums are kept as exact {@link BigDecimal}s of the computers' {@code getPrice()} and
+ * {@code getOverallPerformance()} values, so the result matches a full recomputation exactly.
+ */
+public class InventoryStatistics {
+    private final Map<String, Integer> computerCounts;
+    private final Map<String, Integer> componentCounts;
+    private final Map<String, Integer> peripheralCounts;
+    private final TreeMap<Double, Integer> performances;
+    private int computerCount;
+    private BigDecimal totalValue;
+    private BigDecimal totalPerformance;
+    private double maxPerformance;
+
+    public InventoryStatistics() {
+        this.computerCounts = new TreeMap<>();
+        this.componentCounts = new TreeMap<>();
+        this.peripheralCounts = new TreeMap<>();
+        this.performances = new TreeMap<>();
+        this.totalValue = BigDecimal.ZERO;
+        this.totalPerformance = BigDecimal.ZERO;
+    }
+
+    /**
+     * Builds the statistics from scratch; used to verify the incrementally maintained values.
+     */
+    public static InventoryStatistics of(Stream<ComputerSnapshot> computers) {
+        InventoryStatistics statistics = new InventoryStatistics();
+        computers.forEachOrdered(computer -> statistics.record(computer, 1));
+
+        return statistics;
+    }
+
+    public synchronized void computerAdded(Computer computer) {
+        record(computer.snapshot(), 1);
+    }
+
+    public synchronized void computerRemoved(Computer computer) {
+        record(computer.snapshot(), -1);
+    }
+
+    /**
+     * Records a part change on {@code computer}; {@code oldPrice} and {@code oldPerformance} are the
+     * computer's values before the change.
+     */
+    public synchronized void componentAdded(Computer computer, Component component, double oldPrice, double oldPerformance) {
+        count(componentCounts, component, 1);
+        retrack(computer, oldPrice, oldPerformance);
+    }
+
+    public synchronized void componentRemoved(Computer computer, Component component, double oldPrice, double oldPerformance) {
+        count(componentCounts, component, -1);
+        retrack(computer, oldPrice, oldPerformance);
+    }
+
+    public synchronized void peripheralAdded(Computer computer, Peripheral peripheral, double oldPrice, double oldPerformance) {
+        count(peripheralCounts, peripheral, 1);
+        retrack(computer, oldPrice, oldPerformance);
+    }
+
+    public synchronized void peripheralRemoved(Computer computer, Peripheral peripheral, double oldPrice, double oldPerformance) {
+        count(peripheralCounts, peripheral, -1);
+        retrack(computer, oldPrice, oldPerformance);
+    }
+
+    public synchronized void partsAdded(Computer computer, List<Component> components, List<Peripheral> peripherals,
+                                        double oldPrice, double oldPerformance) {
+        components.forEach(c -> count(componentCounts, c, 1));
+        peripherals.forEach(p -> count(peripheralCounts, p, 1));
+        retrack(computer, oldPrice, oldPerformance);
+    }
+
+    /**
+     * Applies a group of changes while holding the statistics lock, so readers see all of them or none.
+     */
+    public synchronized void update(Runnable changes) {
+        changes.run();
+    }
+
+    public synchronized int getComputerCount() {
+        return this.computerCount;
+    }
+
+    public synchronized BigDecimal getTotalValue() {
+        return this.totalValue;
+    }
+
+    public synchronized BigDecimal getTotalPerformance() {
+        return this.totalPerformance;
+    }
+
+    public synchronized double getAveragePerformance() {
+        if (computerCount == 0) {
+            return 0;
+        }
+
+        return totalPerformance.divide(BigDecimal.valueOf(computerCount), MathContext.DECIMAL64).doubleValue();
+    }
+
+    public synchronized double getMaxPerformance() {
+        return this.maxPerformance;
+    }
+
+    public synchronized Map<String, Integer> getComputerCounts() {
+        return new TreeMap<>(this.computerCounts);
+    }
+
+    public synchronized Map<String, Integer> getComponentCounts() {
+        return new TreeMap<>(this.componentCounts);
+    }
+
+    public synchronized Map<String, Integer> getPeripheralCounts() {
+        return new TreeMap<>(this.peripheralCounts);
+    }
+
+    /**
+     * Returns whether both statistics hold exactly the same counts, sums and maximum. Sums are compared
+     * as exact decimals, so any drift in the incremental maintenance is detected.
+     */
+    public boolean matches(InventoryStatistics other) {
+        InventoryStatistics expected = other.copy();
+
+        synchronized (this) {
+            return computerCount == expected.computerCount
+                    && totalValue.compareTo(expected.totalValue) == 0
+                    && totalPerformance.compareTo(expected.totalPerformance) == 0
+                    && Double.compare(maxPerformance, expected.maxPerformance) == 0
+                    && performances.equals(expected.performances)
+                    && computerCounts.equals(expected.computerCounts)
+                    && componentCounts.equals(expected.componentCounts)
+                    && peripheralCounts.equals(expected.peripheralCounts);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append(String.format(OutputMessages.INVENTORY_STATS_TO_STRING,
+                computerCount, totalValue.doubleValue(), getAveragePerformance(), maxPerformance));
+        result.append(System.lineSeparator());
+        result.append(String.format(" " + OutputMessages.INVENTORY_COMPUTERS_TO_STRING, format(computerCounts)));
+        result.append(System.lineSeparator());
+        result.append(String.format(" " + OutputMessages.INVENTORY_COMPONENTS_TO_STRING, format(componentCounts)));
+        result.append(System.lineSeparator());
+        result.append(String.format(" " + OutputMessages.INVENTORY_PERIPHERALS_TO_STRING, format(peripheralCounts)));
+
+        return result.toString();
+    }
+
+    private synchronized InventoryStatistics copy() {
+        InventoryStatistics copy = new InventoryStatistics();
+        copy.computerCounts.putAll(computerCounts);
+        copy.componentCounts.putAll(componentCounts);
+        copy.peripheralCounts.putAll(peripheralCounts);
+        copy.performances.putAll(performances);
+        copy.computerCount = computerCount;
+        copy.totalValue = totalValue;
+        copy.totalPerformance = totalPerformance;
+        copy.maxPerformance = maxPerformance;
+
+        return copy;
+    }
+
+    private synchronized void record(ComputerSnapshot computer, int delta) {
+        computerCount += delta;
+        count(computerCounts, computer.getType(), delta);
+        computer.getComponents().forEach(c -> count(componentCounts, c, delta));
+        computer.getPeripherals().forEach(p -> count(peripheralCounts, p, delta));
+        track(computer.getPrice(), computer.getOverallPerformance(), delta);
+    }
+
+    private void retrack(Computer computer, double oldPrice, double oldPerformance) {
+        ComputerSnapshot snapshot = computer.snapshot();
+        track(oldPrice, oldPerformance, -1);
+        track(snapshot.getPrice(), snapshot.getOverallPerformance(), 1);
+    }
+
+    private void track(double price, double performance, int delta) {
+        BigDecimal sign = BigDecimal.valueOf(delta);
+        totalValue = totalValue.add(new BigDecimal(price).multiply(sign));
+        totalPerformance = totalPerformance.add(new BigDecimal(performance).multiply(sign));
+
+        performances.merge(performance, delta, (a, b) -> a + b == 0 ? null : a + b);
+        maxPerformance = performances.isEmpty() ? 0 : performances.lastKey();
+    }
+
+    private static void count(Map<String, Integer> counts, Product product, int delta) {
+        count(counts, product.getClass().getSimpleName(), delta);
+    }
+
+    private static void count(Map<String, Integer> counts, String type, int delta) {
+        counts.merge(type, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private static String format(Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return "-";
+        }
+
+        return counts.entrySet().stream()
+                .map(e -> e.getKey() + " " + e.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,114 @@
+package onlineShop.core;
+
+import onlineShop.models.products.Product;
+import onlineShop.models.products.computers.Computer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps sold computers out of the live registries. The most recent orders stay in memory in an
+ * LRU window; older ones are appended to the archive file. Ids of sold parts stay reserved in sparse bitmaps.
+ */
+public class OrderArchive {
+    private static final int DEFAULT_CAPACITY = 1_000;
+
+    private final int capacity;
+    private Path archiveFile;
+    private final Map<Long, String> recentOrders;
+    private final SparseIdSet soldComponentIds;
+    private final SparseIdSet soldPeripheralIds;
+    private long nextOrderNumber;
+
+    public OrderArchive() {
+        this(DEFAULT_CAPACITY, null);
+    }
+
+    /**
+     * @param archiveFile file that evicted orders are appended to; when {@code null} a temporary file is
+     *                    created on the first eviction and deleted on exit
+     */
+    public OrderArchive(int capacity, Path archiveFile) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Archive capacity must be positive.");
+        }
+
+        this.capacity = capacity;
+        this.archiveFile = archiveFile;
+        this.soldComponentIds = new SparseIdSet();
+        this.soldPeripheralIds = new SparseIdSet();
+        this.recentOrders = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Records a sale and returns its order number. Orders are keyed by this number rather than the
+     * computer id, because a sold computer's id may be listed and sold again.
+     */
+    public synchronized long archive(Computer computer) {
+        computer.getComponents().stream().mapToInt(Product::getId).forEach(soldComponentIds::add);
+        computer.getPeripherals().stream().mapToInt(Product::getId).forEach(soldPeripheralIds::add);
+
+        long orderNumber = ++nextOrderNumber;
+        recentOrders.put(orderNumber, computer.toString());
+        evictOverflow();
+
+        return orderNumber;
+    }
+
+    public synchronized String getRecentOrder(long orderNumber) {
+        return recentOrders.get(orderNumber);
+    }
+
+    public synchronized int getRecentOrdersCount() {
+        return recentOrders.size();
+    }
+
+    /**
+     * Ids that are not positive are never reserved, so the product validation reports them as usual.
+     */
+    public synchronized boolean isComponentIdReserved(int id) {
+        return soldComponentIds.contains(id);
+    }
+
+    public synchronized boolean isPeripheralIdReserved(int id) {
+        return soldPeripheralIds.contains(id);
+    }
+
+    /**
+     * Spills least recently used orders until the window is back within capacity. Orders kept after a
+     * failed spill are retried on the next sale, so the window shrinks again once the disk recovers.
+     */
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, String>> eldest = recentOrders.entrySet().iterator();
+
+        while (recentOrders.size() > capacity && spill(eldest.next().getValue())) {
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Appends an evicted order to the archive file. When the write fails the order is kept in
+     * memory, so a sale is never lost because of a disk problem.
+     */
+    private boolean spill(String order) {
+        try {
+            if (archiveFile == null) {
+                archiveFile = Files.createTempFile("sold-orders", ".log");
+                archiveFile.toFile().deleteOnExit();
+            }
+
+            Files.write(archiveFile,
+                    (order + System.lineSeparator() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
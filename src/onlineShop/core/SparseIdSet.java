@@ -0,0 +1,40 @@
+package onlineShop.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Set of positive ids stored as fixed-size bitmap chunks that are only allocated for id ranges in use,
+ * so a few large ids cost a few hundred bytes instead of a bitmap up to the largest id.
+ */
+class SparseIdSet {
+    private static final int CHUNK_BITS = 4_096;
+    private static final int WORD_BITS = Long.SIZE;
+
+    private final Map<Integer, long[]> chunks;
+
+    SparseIdSet() {
+        this.chunks = new HashMap<>();
+    }
+
+    void add(int id) {
+        if (id <= 0) {
+            return;
+        }
+
+        long[] chunk = chunks.computeIfAbsent(id / CHUNK_BITS, k -> new long[CHUNK_BITS / WORD_BITS]);
+        int bit = id % CHUNK_BITS;
+        chunk[bit / WORD_BITS] |= 1L << (bit % WORD_BITS);
+    }
+
+    boolean contains(int id) {
+        if (id <= 0) {
+            return false;
+        }
+
+        long[] chunk = chunks.get(id / CHUNK_BITS);
+        int bit = id % CHUNK_BITS;
+
+        return chunk != null && (chunk[bit / WORD_BITS] & 1L << (bit % WORD_BITS)) != 0;
+    }
+}
@@ -0,0 +1,428 @@
+package onlineShop.core;
+
+import onlineShop.models.products.computers.Computer;
+import onlineShop.models.products.computers.ComputerSnapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Computer registry with a bounded hot set in memory and everything else serialized to a spill file.
+ * The hot set is an access-ordered LRU; evicted computers are appended to the file and paged back in
+ * (and promoted) on {@link #get(int)} or {@link #remove(int)}.
+ *
+ * <p>A computer returned by {@link #get(int)} stays hot until the next call that loads or adds another
+ * computer, so callers must finish mutating it before touching the store again, or {@link #pin(int)} it
+ * until they are done. Only the thread that mutates computers may call promoting methods; concurrent
+ * readers use {@link #peek(int)}, which never promotes or evicts.
+ */
+public class TieredComputerStore {
+    private static final int DEFAULT_HOT_CAPACITY = 10_000;
+    private static final long COMPACTION_THRESHOLD_BYTES = 16 * 1_024 * 1_024;
+
+    private final int hotCapacity;
+    private final LinkedHashMap<Integer, Computer> hot;
+    private final Map<Integer, Segment> cold;
+    private final Set<Integer> pinned;
+    private Path spillFile;
+    private FileChannel channel;
+    private long liveBytes;
+    private long deadBytes;
+    private int activeReaders;
+
+    public TieredComputerStore() {
+        this(DEFAULT_HOT_CAPACITY, null);
+    }
+
+    /**
+     * @param spillFile file used for cold computers; when {@code null} a temporary file is created on the
+     *                  first eviction and deleted on exit
+     */
+    public TieredComputerStore(int hotCapacity, Path spillFile) {
+        if (hotCapacity <= 0) {
+            throw new IllegalArgumentException("Hot capacity must be positive.");
+        }
+
+        this.hotCapacity = hotCapacity;
+        this.spillFile = spillFile;
+        this.hot = new LinkedHashMap<>(16, 0.75f, true);
+        this.cold = new HashMap<>();
+        this.pinned = new HashSet<>();
+    }
+
+    public synchronized boolean containsKey(int id) {
+        return hot.containsKey(id) || cold.containsKey(id);
+    }
+
+    public synchronized Computer get(int id) {
+        Computer computer = hot.get(id);
+
+        if (computer == null && cold.containsKey(id)) {
+            computer = load(id);
+            promote(computer);
+        }
+
+        return computer;
+    }
+
+    /**
+     * Loads the computer like {@link #get(int)} and keeps it hot until {@link #unpin(int)}, so callers can
+     * hold several computers at once. Fails without pinning anything if the computer can not be loaded.
+     */
+    public synchronized Computer pin(int id) {
+        Computer computer = get(id);
+
+        if (computer != null) {
+            pinned.add(id);
+        }
+
+        return computer;
+    }
+
+    public synchronized void unpin(int id) {
+        pinned.remove(id);
+    }
+
+    /**
+     * Returns the computer without changing the tiers: a hot computer is returned as is, a cold one is
+     * deserialized into a copy that is not promoted. Safe to call while another thread mutates computers.
+     * The cold segment is read outside the lock, so cold reads and writers do not block each other.
+     */
+    public Computer peek(int id) {
+        Segment segment;
+        FileChannel source;
+
+        synchronized (this) {
+            Computer computer = hot.get(id);
+            if (computer != null || !cold.containsKey(id)) {
+                return computer;
+            }
+
+            segment = cold.get(id);
+            source = channel;
+            activeReaders++;
+        }
+
+        try {
+            return read(source, segment);
+        } finally {
+            endRead();
+        }
+    }
+
+    public synchronized void put(Computer computer) {
+        Segment segment = cold.remove(computer.getId());
+        if (segment != null) {
+            release(segment);
+        }
+
+        promote(computer);
+    }
+
+    public synchronized Computer remove(int id) {
+        pinned.remove(id);
+        Computer computer = hot.remove(id);
+
+        if (computer == null && cold.containsKey(id)) {
+            computer = load(id);
+        }
+
+        return computer;
+    }
+
+    public synchronized int size() {
+        return hot.size() + cold.size();
+    }
+
+    public synchronized int hotSize() {
+        return hot.size();
+    }
+
+    /**
+     * Streams a snapshot of every computer as of one point in time. Hot computers are captured under the
+     * lock; cold segments are only listed there and deserialized lazily by the stream, without the lock
+     * and without promotion, so a full scan neither blocks the store nor flushes the hot set. Segments are
+     * never rewritten in place, so a cold computer changed during the scan is still read as captured.
+     * Changes made through {@link #update(Runnable)} are seen entirely or not at all. The stream must be
+     * closed: compaction is held off until then.
+     */
+    public Stream<ComputerSnapshot> snapshots() {
+        List<ComputerSnapshot> hotSnapshots;
+        List<Segment> coldSegments;
+        FileChannel source;
+
+        synchronized (this) {
+            hotSnapshots = new ArrayList<>(hot.size());
+            hot.values().forEach(computer -> hotSnapshots.add(computer.snapshot()));
+            coldSegments = new ArrayList<>(cold.values());
+            source = channel;
+            activeReaders++;
+        }
+
+        return Stream.concat(hotSnapshots.stream(), coldSegments.stream().map(segment -> read(source, segment).snapshot()))
+                .onClose(this::endRead);
+    }
+
+    /**
+     * Runs a group of changes to stored computers and to the store itself while holding the store lock,
+     * so no {@link #snapshots()} capture sees only part of them. The changes should not do disk I/O
+     * beyond what the store itself needs.
+     */
+    public synchronized void update(Runnable changes) {
+        changes.run();
+    }
+
+    /**
+     * Lists every computer without reading the spill file: hot computers are described from memory and
+     * cold ones from the index, so choosing a computer only deserializes the one that is then removed.
+     */
+    public synchronized List<Listing> listings() {
+        List<Listing> listings = new ArrayList<>(size());
+
+        for (Computer computer : hot.values()) {
+            ComputerSnapshot snapshot = computer.snapshot();
+            listings.add(new Listing(snapshot.getId(), snapshot.getPrice(), snapshot.getOverallPerformance()));
+        }
+
+        for (Map.Entry<Integer, Segment> entry : cold.entrySet()) {
+            Segment segment = entry.getValue();
+            listings.add(new Listing(entry.getKey(), segment.price, segment.overallPerformance));
+        }
+
+        return listings;
+    }
+
+    private synchronized void endRead() {
+        activeReaders--;
+    }
+
+    /**
+     * Adds the computer to the hot set and evicts the eldest unpinned ones. Eviction is best effort: a
+     * computer is only dropped from memory once its segment is written, so on a write failure the hot set
+     * stays over capacity and nothing is lost.
+     */
+    private void promote(Computer computer) {
+        hot.put(computer.getId(), computer);
+
+        try {
+            Iterator<Computer> eldest = hot.values().iterator();
+            while (hot.size() > hotCapacity && eldest.hasNext()) {
+                Computer evicted = eldest.next();
+                if (pinned.contains(evicted.getId())) {
+                    continue;
+                }
+
+                cold.put(evicted.getId(), write(evicted));
+                eldest.remove();
+            }
+        } catch (UncheckedIOException e) {
+            // the computers stay hot; the next promotion retries the eviction
+            return;
+        }
+
+        compactIfNeeded();
+    }
+
+    /**
+     * Moves a cold computer out of the file. The segment is only released once it was read successfully.
+     */
+    private Computer load(int id) {
+        Segment segment = cold.get(id);
+        Computer computer = read(segment);
+        cold.remove(id);
+        release(segment);
+
+        return computer;
+    }
+
+    private void release(Segment segment) {
+        liveBytes -= segment.length;
+        deadBytes += segment.length;
+    }
+
+    private Segment write(Computer computer) {
+        ComputerSnapshot snapshot = computer.snapshot();
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(computer);
+            }
+
+            FileChannel channel = channel();
+            long offset = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+
+            liveBytes += bytes.size();
+
+            return new Segment(offset, bytes.size(), snapshot.getPrice(), snapshot.getOverallPerformance());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Computer read(Segment segment) {
+        return read(channel, segment);
+    }
+
+    /**
+     * Positional reads do not move the channel, so segments can be read concurrently without the lock.
+     */
+    private static Computer read(FileChannel channel, Segment segment) {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(segment.length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, segment.offset + buffer.position()) < 0) {
+                    throw new IOException("Spill file is truncated.");
+                }
+            }
+
+            try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(buffer.array()))) {
+                return (Computer) input.readObject();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Rewrites the live segments into a fresh file once dead space outweighs live data. Skipped while a
+     * peek or a snapshot stream may still read segments of the current file outside the lock. The new file is written and renamed
+     * over the spill file before the old channel is dropped, so a failed compaction leaves the store
+     * untouched and is retried on a later promotion.
+     */
+    private void compactIfNeeded() {
+        if (activeReaders > 0 || deadBytes < COMPACTION_THRESHOLD_BYTES || deadBytes < liveBytes) {
+            return;
+        }
+
+        Path compacted = null;
+        FileChannel target = null;
+        try {
+            compacted = Files.createTempFile(spillFile.toAbsolutePath().getParent(), "computers", ".compact");
+            target = FileChannel.open(compacted, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Map<Integer, Segment> relocated = new HashMap<>();
+            long position = 0;
+            for (Map.Entry<Integer, Segment> entry : cold.entrySet()) {
+                Segment segment = entry.getValue();
+                long copied = 0;
+                while (copied < segment.length) {
+                    copied += channel.transferTo(segment.offset + copied, segment.length - copied, target);
+                }
+                relocated.put(entry.getKey(), new Segment(position, segment.length, segment.price, segment.overallPerformance));
+                position += segment.length;
+            }
+
+            Files.move(compacted, spillFile, StandardCopyOption.REPLACE_EXISTING);
+            FileChannel previous = channel;
+            channel = target;
+            cold.putAll(relocated);
+            deadBytes = 0;
+            closeQuietly(previous);
+        } catch (IOException e) {
+            closeQuietly(target);
+            try {
+                if (compacted != null) {
+                    Files.deleteIfExists(compacted);
+                }
+            } catch (IOException ignored) {
+                // a leftover temporary file does not affect the store
+            }
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // nothing is read from a channel that failed to close
+        }
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null) {
+            if (spillFile == null) {
+                spillFile = Files.createTempFile("computers", ".cold");
+                spillFile.toFile().deleteOnExit();
+            }
+
+            channel = FileChannel.open(spillFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        return channel;
+    }
+
+    /**
+     * Id, price and overall performance of a stored computer, enough to choose a computer to sell.
+     */
+    public static final class Listing {
+        private final int id;
+        private final double price;
+        private final double overallPerformance;
+
+        private Listing(int id, double price, double overallPerformance) {
+            this.id = id;
+            this.price = price;
+            this.overallPerformance = overallPerformance;
+        }
+
+        public int getId() {
+            return this.id;
+        }
+
+        public double getPrice() {
+            return this.price;
+        }
+
+        public double getOverallPerformance() {
+            return this.overallPerformance;
+        }
+    }
+
+    /**
+     * Location of a cold computer in the spill file. Its price and performance are kept alongside, so
+     * listings never read the file; they can not go stale because cold computers are never mutated.
+     */
+    private static final class Segment {
+        private final long offset;
+        private final int length;
+        private final double price;
+        private final double overallPerformance;
+
+        private Segment(long offset, int length, double price, double overallPerformance) {
+            this.offset = offset;
+            this.length = length;
+            this.price = price;
+            this.overallPerformance = overallPerformance;
+        }
+    }
+}
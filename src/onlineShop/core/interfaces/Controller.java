@@ -1,5 +1,9 @@
 package onlineShop.core.interfaces;
 
+import onlineShop.core.operations.Operation;
+
+import java.util.List;
+
 public interface Controller {
     String addComputer(String computerType, int id, String manufacturer, String model, double price) throws NoSuchMethodException, ClassNotFoundException;
 
@@ -16,4 +20,12 @@ public interface Controller {
     String BuyBestComputer(double budget);
 
     String getComputerData(int id);
+
+    String buyBestComputers(double[] budgets);
+
+    String getInventoryStats();
+
+    String getCatalogReport();
+
+    String executeTransaction(List<Operation> operations);
 }
@@ -0,0 +1,69 @@
+package onlineShop.core.operations;
+
+import onlineShop.common.enums.CommandType;
+import onlineShop.core.interfaces.Controller;
+
+public class AddComponentOperation implements Operation {
+    private final int computerId;
+    private final int id;
+    private final String componentType;
+    private final String manufacturer;
+    private final String model;
+    private final double price;
+    private final double overallPerformance;
+    private final int generation;
+
+    public AddComponentOperation(int computerId, int id, String componentType, String manufacturer, String model,
+                                 double price, double overallPerformance, int generation) {
+        this.computerId = computerId;
+        this.id = id;
+        this.componentType = componentType;
+        this.manufacturer = manufacturer;
+        this.model = model;
+        this.price = price;
+        this.overallPerformance = overallPerformance;
+        this.generation = generation;
+    }
+
+    @Override
+    public CommandType getCommand() {
+        return CommandType.AddComponent;
+    }
+
+    @Override
+    public String applyTo(Controller controller) {
+        return controller.addComponent(computerId, id, componentType, manufacturer, model, price, overallPerformance, generation);
+    }
+
+    public int getComputerId() {
+        return this.computerId;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public String getComponentType() {
+        return this.componentType;
+    }
+
+    public String getManufacturer() {
+        return this.manufacturer;
+    }
+
+    public String getModel() {
+        return this.model;
+    }
+
+    public double getPrice() {
+        return this.price;
+    }
+
+    public double getOverallPerformance() {
+        return this.overallPerformance;
+    }
+
+    public int getGeneration() {
+        return this.generation;
+    }
+}
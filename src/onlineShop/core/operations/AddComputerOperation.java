@@ -0,0 +1,50 @@
+package onlineShop.core.operations;
+
+import onlineShop.common.enums.CommandType;
+import onlineShop.core.interfaces.Controller;
+
+public class AddComputerOperation implements Operation {
+    private final String computerType;
+    private final int id;
+    private final String manufacturer;
+    private final String model;
+    private final double price;
+
+    public AddComputerOperation(String computerType, int id, String manufacturer, String model, double price) {
+        this.computerType = computerType;
+        this.id = id;
+        this.manufacturer = manufacturer;
+        this.model = model;
+        this.price = price;
+    }
+
+    @Override
+    public CommandType getCommand() {
+        return CommandType.AddComputer;
+    }
+
+    @Override
+    public String applyTo(Controller controller) throws NoSuchMethodException, ClassNotFoundException {
+        return controller.addComputer(computerType, id, manufacturer, model, price);
+    }
+
+    public String getComputerType() {
+        return this.computerType;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public String getManufacturer() {
+        return this.manufacturer;
+    }
+
+    public String getModel() {
+        return this.model;
+    }
+
+    public double getPrice() {
+        return this.price;
+    }
+}
@@ -0,0 +1,69 @@
+package onlineShop.core.operations;
+
+import onlineShop.common.enums.CommandType;
+import onlineShop.core.interfaces.Controller;
+
+public class AddPeripheralOperation implements Operation {
+    private final int computerId;
+    private final int id;
+    private final String peripheralType;
+    private final String manufacturer;
+    private final String model;
+    private final double price;
+    private final double overallPerformance;
+    private final String connectionType;
+
+    public AddPeripheralOperation(int computerId, int id, String peripheralType, String manufacturer, String model,
+                                  double price, double overallPerformance, String connectionType) {
+        this.computerId = computerId;
+        this.id = id;
+        this.peripheralType = peripheralType;
+        this.manufacturer = manufacturer;
+        this.model = model;
+        this.price = price;
+        this.overallPerformance = overallPerformance;
+        this.connectionType = connectionType;
+    }
+
+    @Override
+    public CommandType getCommand() {
+        return CommandType.AddPeripheral;
+    }
+
+    @Override
+    public String applyTo(Controller controller) {
+        return controller.addPeripheral(computerId, id, peripheralType, manufacturer, model, price, overallPerformance, connectionType);
+    }
+
+    public int getComputerId() {
+        return this.computerId;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public String getPeripheralType() {
+        return this.peripheralType;
+    }
+
+    public String getManufacturer() {
+        return this.manufacturer;
+    }
+
+    public String getModel() {
+        return this.model;
+    }
+
+    public double getPrice() {
+        return this.price;
+    }
+
+    public double getOverallPerformance() {
+        return this.overallPerformance;
+    }
+
+    public String getConnectionType() {
+        return this.connectionType;
+    }
+}
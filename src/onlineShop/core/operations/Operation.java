@@ -0,0 +1,17 @@
+package onlineShop.core.operations;
+
+import onlineShop.common.enums.CommandType;
+import onlineShop.core.interfaces.Controller;
+
+/**
+ * A parsed command with typed arguments. Engines decode their input format into operations once, so
+ * the argument layout of a command is only known to its operation class and to the decoders.
+ */
+public interface Operation {
+    CommandType getCommand();
+
+    /**
+     * Executes this operation as a single command on {@code controller}.
+     */
+    String applyTo(Controller controller) throws NoSuchMethodException, ClassNotFoundException;
+}
@@ -0,0 +1,195 @@
+package onlineShop.io;
+
+import onlineShop.io.interfaces.OutputWriter;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands lines to a dedicated writer thread through a bounded, preallocated ring buffer. The writer
+ * thread drains everything queued so far and writes it to the channel in one batch.
+ *
+ * <p>When the ring is full, {@link #writeLine(String)} blocks until the writer thread frees a slot, so
+ * lines are never dropped. {@link #close()} waits until every queued line has been written.
+ */
+public class AsyncOutputWriter implements OutputWriter {
+    private static final int DEFAULT_CAPACITY = 4_096;
+    private static final int INITIAL_BATCH_BYTES = 64 * 1_024;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final String[] ring;
+    private final int mask;
+    private final WritableByteChannel channel;
+    private final boolean ownsChannel;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private final Thread drainer;
+    private long head;
+    private long tail;
+    private boolean closed;
+    private IOException failure;
+
+    public AsyncOutputWriter() {
+        this(Channels.newChannel(new FileOutputStream(FileDescriptor.out)), DEFAULT_CAPACITY, false);
+    }
+
+    public AsyncOutputWriter(Path file) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING), DEFAULT_CAPACITY, true);
+    }
+
+    public AsyncOutputWriter(WritableByteChannel channel, int capacity, boolean ownsChannel) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a positive power of two.");
+        }
+
+        this.ring = new String[capacity];
+        this.mask = capacity - 1;
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+        this.drainer = new Thread(this::drain, "output-writer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public void writeLine(String text) {
+        lock.lock();
+        try {
+            while (tail - head == ring.length && !closed && failure == null) {
+                notFull.awaitUninterruptibly();
+            }
+
+            throwIfFailed();
+            if (closed) {
+                throw new IllegalStateException("Output writer is closed.");
+            }
+
+            ring[(int) (tail & mask)] = String.valueOf(text);
+            tail++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        boolean interrupted = false;
+        while (drainer.isAlive()) {
+            try {
+                drainer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            if (ownsChannel) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+
+        throwIfFailed();
+    }
+
+    private void drain() {
+        StringBuilder batch = new StringBuilder();
+        ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BATCH_BYTES);
+
+        while (true) {
+            lock.lock();
+            try {
+                while (head == tail && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+
+                if (head == tail) {
+                    return;
+                }
+
+                while (head != tail) {
+                    int slot = (int) (head & mask);
+                    batch.append(ring[slot]).append(LINE_SEPARATOR);
+                    ring[slot] = null;
+                    head++;
+                }
+
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+            batch.setLength(0);
+
+            if (bytes.length > buffer.capacity()) {
+                buffer = ByteBuffer.allocate(bytes.length);
+            }
+
+            buffer.clear();
+            buffer.put(bytes).flip();
+
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                fail(e);
+                return;
+            }
+        }
+    }
+
+    private void fail(IOException e) {
+        lock.lock();
+        try {
+            failure = e;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void throwIfFailed() {
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+}
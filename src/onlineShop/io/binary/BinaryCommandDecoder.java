@@ -0,0 +1,146 @@
+package onlineShop.io.binary;
+
+import onlineShop.common.constants.ExceptionMessages;
+import onlineShop.common.enums.CommandType;
+import onlineShop.core.interfaces.Controller;
+import onlineShop.core.operations.AddComponentOperation;
+import onlineShop.core.operations.AddComputerOperation;
+import onlineShop.core.operations.AddPeripheralOperation;
+import onlineShop.core.operations.Operation;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes binary command frames straight from a {@link ByteBuffer} and dispatches them to a {@link Controller}.
+ */
+public class BinaryCommandDecoder {
+
+    /**
+     * Returns whether {@code buffer} holds at least one complete frame at its current position.
+     */
+    public boolean hasFrame(ByteBuffer buffer) {
+        return buffer.remaining() >= BinaryProtocol.LENGTH_FIELD_BYTES
+                && buffer.remaining() - BinaryProtocol.LENGTH_FIELD_BYTES >= buffer.getInt(buffer.position());
+    }
+
+    /**
+     * Consumes one frame from {@code buffer} and executes it. The buffer is left positioned at the next
+     * frame even when the command fails. Returns {@code "Close"} for the Close command.
+     */
+    public String execute(ByteBuffer buffer, Controller controller) throws NoSuchMethodException, ClassNotFoundException {
+        int length = buffer.getInt();
+
+        if (length <= 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        int end = buffer.position() + length;
+        int limit = buffer.limit();
+        buffer.limit(end);
+
+        try {
+            return dispatch(buffer, controller);
+        } finally {
+            buffer.limit(limit);
+            buffer.position(end);
+        }
+    }
+
+    private String dispatch(ByteBuffer frame, Controller controller) throws NoSuchMethodException, ClassNotFoundException {
+        CommandType command = BinaryProtocol.command(frame.get());
+
+        switch (command) {
+            case AddComputer:
+            case AddPeripheral:
+            case AddComponent:
+                return decodeOperation(command, frame).applyTo(controller);
+            case RemovePeripheral:
+                return controller.removePeripheral(BinaryProtocol.getType(frame, BinaryProtocol.PERIPHERAL_TYPES), frame.getInt());
+            case RemoveComponent:
+                return controller.removeComponent(BinaryProtocol.getType(frame, BinaryProtocol.COMPONENT_TYPES), frame.getInt());
+            case BuyComputer:
+                return controller.buyComputer(frame.getInt());
+            case BuyBestComputer:
+                return controller.BuyBestComputer(frame.getDouble());
+            case GetComputerData:
+                return controller.getComputerData(frame.getInt());
+            case BuyBestComputers:
+                int count = frame.getInt();
+                if (count < 0 || count > frame.remaining() / Double.BYTES) {
+                    throw new BufferUnderflowException();
+                }
+                double[] budgets = new double[count];
+                for (int i = 0; i < budgets.length; i++) {
+                    budgets[i] = frame.getDouble();
+                }
+                return controller.buyBestComputers(budgets);
+            case InventoryStats:
+                return controller.getInventoryStats();
+            case CatalogReport:
+                return controller.getCatalogReport();
+            case Transaction:
+                return controller.executeTransaction(decodeTransaction(frame));
+            case Close:
+                return "Close";
+        }
+
+        return null;
+    }
+
+    private static Operation decodeOperation(CommandType command, ByteBuffer frame) {
+        switch (command) {
+            case AddComputer:
+                return new AddComputerOperation(BinaryProtocol.getType(frame, BinaryProtocol.COMPUTER_TYPES),
+                        frame.getInt(), BinaryProtocol.getString(frame), BinaryProtocol.getString(frame), frame.getDouble());
+            case AddPeripheral:
+                return new AddPeripheralOperation(frame.getInt(), frame.getInt(),
+                        BinaryProtocol.getType(frame, BinaryProtocol.PERIPHERAL_TYPES),
+                        BinaryProtocol.getString(frame), BinaryProtocol.getString(frame),
+                        frame.getDouble(), frame.getDouble(), BinaryProtocol.getString(frame));
+            case AddComponent:
+                return new AddComponentOperation(frame.getInt(), frame.getInt(),
+                        BinaryProtocol.getType(frame, BinaryProtocol.COMPONENT_TYPES),
+                        BinaryProtocol.getString(frame), BinaryProtocol.getString(frame),
+                        frame.getDouble(), frame.getDouble(), frame.getInt());
+            default:
+                throw new IllegalArgumentException(ExceptionMessages.INVALID_TRANSACTION_COMMAND);
+        }
+    }
+
+    /**
+     * Decodes the nested command frames of a transaction straight into operations.
+     */
+    private List<Operation> decodeTransaction(ByteBuffer frame) {
+        int count = frame.getInt();
+        List<Operation> operations = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            if (!hasFrame(frame)) {
+                throw new BufferUnderflowException();
+            }
+
+            int length = frame.getInt();
+            if (length <= 0) {
+                throw new BufferUnderflowException();
+            }
+
+            int end = frame.position() + length;
+            int limit = frame.limit();
+            frame.limit(end);
+
+            try {
+                operations.add(decodeOperation(BinaryProtocol.command(frame.get()), frame));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format(ExceptionMessages.TRANSACTION_ABORTED, i + 1, e.getMessage()));
+            } finally {
+                frame.limit(limit);
+                frame.position(end);
+            }
+        }
+
+        return operations;
+    }
+}
@@ -0,0 +1,127 @@
+package onlineShop.io.binary;
+
+import onlineShop.common.enums.CommandType;
+import onlineShop.core.EngineImpl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encodes text commands, as read by {@link onlineShop.core.EngineImpl}, into binary command frames.
+ */
+public class BinaryCommandEncoder {
+    private static final int HEADER_BYTES = BinaryProtocol.LENGTH_FIELD_BYTES + Byte.BYTES;
+    private static final int NUMBER_BYTES = Double.BYTES;
+    private static final int LIST_COUNT_BYTES = Integer.BYTES;
+
+    public ByteBuffer encode(String commandLine) {
+        String[] tokens = commandLine.split("\\s");
+        CommandType command = CommandType.valueOf(tokens[0]);
+
+        if (command == CommandType.Transaction) {
+            return encodeTransaction(tokens);
+        }
+
+        int capacity = HEADER_BYTES + LIST_COUNT_BYTES;
+        for (int i = 1; i < tokens.length; i++) {
+            capacity += Math.max(NUMBER_BYTES, BinaryProtocol.maxStringBytes(tokens[i]));
+        }
+
+        ByteBuffer frame = ByteBuffer.allocate(capacity);
+        frame.position(BinaryProtocol.LENGTH_FIELD_BYTES);
+        frame.put(BinaryProtocol.opcode(command));
+        putPayload(frame, command, tokens);
+        frame.putInt(0, frame.position() - BinaryProtocol.LENGTH_FIELD_BYTES);
+        frame.flip();
+
+        return frame;
+    }
+
+    /**
+     * A transaction is a count followed by one complete command frame per grouped command.
+     */
+    private ByteBuffer encodeTransaction(String[] tokens) {
+        List<ByteBuffer> frames = new ArrayList<>();
+        int size = HEADER_BYTES + LIST_COUNT_BYTES;
+        int start = 1;
+
+        for (int i = 1; i <= tokens.length; i++) {
+            if (i == tokens.length || EngineImpl.TRANSACTION_SEPARATOR.equals(tokens[i])) {
+                if (i > start) {
+                    ByteBuffer frame = encode(String.join(" ", Arrays.copyOfRange(tokens, start, i)));
+                    size += frame.remaining();
+                    frames.add(frame);
+                }
+                start = i + 1;
+            }
+        }
+
+        ByteBuffer transaction = ByteBuffer.allocate(size);
+        transaction.putInt(size - BinaryProtocol.LENGTH_FIELD_BYTES);
+        transaction.put(BinaryProtocol.opcode(CommandType.Transaction));
+        transaction.putInt(frames.size());
+        frames.forEach(transaction::put);
+        transaction.flip();
+
+        return transaction;
+    }
+
+    private void putPayload(ByteBuffer frame, CommandType command, String[] data) {
+        switch (command) {
+            case AddComputer:
+                BinaryProtocol.putType(frame, BinaryProtocol.COMPUTER_TYPES, data[1]);
+                frame.putInt(Integer.parseInt(data[2]));
+                BinaryProtocol.putString(frame, data[3]);
+                BinaryProtocol.putString(frame, data[4]);
+                frame.putDouble(Double.parseDouble(data[5]));
+                break;
+            case AddPeripheral:
+                frame.putInt(Integer.parseInt(data[1]));
+                frame.putInt(Integer.parseInt(data[2]));
+                BinaryProtocol.putType(frame, BinaryProtocol.PERIPHERAL_TYPES, data[3]);
+                BinaryProtocol.putString(frame, data[4]);
+                BinaryProtocol.putString(frame, data[5]);
+                frame.putDouble(Double.parseDouble(data[6]));
+                frame.putDouble(Double.parseDouble(data[7]));
+                BinaryProtocol.putString(frame, data[8]);
+                break;
+            case RemovePeripheral:
+                BinaryProtocol.putType(frame, BinaryProtocol.PERIPHERAL_TYPES, data[1]);
+                frame.putInt(Integer.parseInt(data[2]));
+                break;
+            case AddComponent:
+                frame.putInt(Integer.parseInt(data[1]));
+                frame.putInt(Integer.parseInt(data[2]));
+                BinaryProtocol.putType(frame, BinaryProtocol.COMPONENT_TYPES, data[3]);
+                BinaryProtocol.putString(frame, data[4]);
+                BinaryProtocol.putString(frame, data[5]);
+                frame.putDouble(Double.parseDouble(data[6]));
+                frame.putDouble(Double.parseDouble(data[7]));
+                frame.putInt(Integer.parseInt(data[8]));
+                break;
+            case RemoveComponent:
+                BinaryProtocol.putType(frame, BinaryProtocol.COMPONENT_TYPES, data[1]);
+                frame.putInt(Integer.parseInt(data[2]));
+                break;
+            case BuyComputer:
+            case GetComputerData:
+                frame.putInt(Integer.parseInt(data[1]));
+                break;
+            case BuyBestComputer:
+                frame.putDouble(Double.parseDouble(data[1]));
+                break;
+            case BuyBestComputers:
+                frame.putInt(data.length - 1);
+                for (int i = 1; i < data.length; i++) {
+                    frame.putDouble(Double.parseDouble(data[i]));
+                }
+                break;
+            case InventoryStats:
+            case CatalogReport:
+            case Close:
+                break;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package onlineShop.io.binary;
+
+import onlineShop.core.interfaces.Controller;
+import onlineShop.core.interfaces.Engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Binary counterpart of {@link onlineShop.core.EngineImpl}: reads command frames from a channel, executes
+ * them on the shared {@link Controller} and answers every command except Close with a result frame.
+ */
+public class BinaryEngine implements Engine {
+    private static final int INITIAL_BUFFER_BYTES = 64 * 1_024;
+
+    private final Controller controller;
+    private final ReadableByteChannel input;
+    private final WritableByteChannel output;
+    private final BinaryCommandDecoder decoder;
+    private ByteBuffer buffer;
+
+    public BinaryEngine(Controller controller, ReadableByteChannel input, WritableByteChannel output) {
+        this.controller = controller;
+        this.input = input;
+        this.output = output;
+        this.decoder = new BinaryCommandDecoder();
+        this.buffer = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+        this.buffer.flip();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (fill()) {
+                while (decoder.hasFrame(buffer)) {
+                    BinaryResult result;
+                    try {
+                        String message = decoder.execute(buffer, controller);
+
+                        if ("Close".equals(message)) {
+                            return;
+                        }
+
+                        result = new BinaryResult(true, message);
+                    } catch (IllegalArgumentException | NullPointerException | BufferUnderflowException
+                            | NoSuchMethodException | ClassNotFoundException e) {
+                        result = new BinaryResult(false, e.getMessage());
+                    }
+
+                    ByteBuffer frame = result.encode();
+                    while (frame.hasRemaining()) {
+                        output.write(frame);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads more bytes behind the unconsumed ones, growing the buffer when a frame does not fit.
+     * Returns {@code false} once the input is exhausted.
+     */
+    private boolean fill() throws IOException {
+        buffer.compact();
+
+        if (!buffer.hasRemaining()) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+
+        int read = input.read(buffer);
+        buffer.flip();
+
+        return read >= 0;
+    }
+}
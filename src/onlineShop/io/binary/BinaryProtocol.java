@@ -0,0 +1,117 @@
+package onlineShop.io.binary;
+
+import onlineShop.common.enums.CommandType;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Wire format shared by the binary encoder and decoder. All numbers are big-endian.
+ *
+ * <pre>
+ * command frame: int length | byte opcode | payload
+ * result frame:  int length | byte status | UTF-8 message
+ * </pre>
+ *
+ * The opcode is the {@link CommandType} ordinal, so new commands must be appended to the enum. Type names
+ * are sent as one-byte dictionary codes; a name that is not in the dictionary is sent as {@link #UNKNOWN_TYPE}
+ * followed by the name itself, so the controller can reject it with its usual message. Other text fields
+ * are an unsigned short length followed by UTF-8 bytes.
+ */
+public final class BinaryProtocol {
+    public static final int LENGTH_FIELD_BYTES = Integer.BYTES;
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_ERROR = 1;
+    public static final byte UNKNOWN_TYPE = -1;
+
+    static final List<String> COMPUTER_TYPES = Arrays.asList("DesktopComputer", "Laptop");
+    static final List<String> COMPONENT_TYPES = Arrays.asList("CentralProcessingUnit", "Motherboard",
+            "PowerSupply", "RandomAccessMemory", "SolidStateDrive", "VideoCard");
+    static final List<String> PERIPHERAL_TYPES = Arrays.asList("Headset", "Keyboard", "Monitor", "Mouse");
+
+    private static final CommandType[] COMMANDS = CommandType.values();
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private BinaryProtocol() {
+    }
+
+    static byte opcode(CommandType command) {
+        return (byte) command.ordinal();
+    }
+
+    static CommandType command(byte opcode) {
+        if (opcode < 0 || opcode >= COMMANDS.length) {
+            throw new IllegalArgumentException("Unknown binary opcode " + opcode + ".");
+        }
+
+        return COMMANDS[opcode];
+    }
+
+    static void putType(ByteBuffer buffer, List<String> dictionary, String type) {
+        int code = dictionary.indexOf(type);
+
+        if (code < 0) {
+            buffer.put(UNKNOWN_TYPE);
+            putString(buffer, type);
+        } else {
+            buffer.put((byte) code);
+        }
+    }
+
+    static String getType(ByteBuffer buffer, List<String> dictionary) {
+        byte code = buffer.get();
+
+        if (code == UNKNOWN_TYPE) {
+            return getString(buffer);
+        }
+
+        if (code < 0 || code >= dictionary.size()) {
+            throw new IllegalArgumentException("Unknown binary type code " + code + ".");
+        }
+
+        return dictionary.get(code);
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Text field is too long for the binary protocol.");
+        }
+
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Decodes a string in place: heap buffers are read straight from their backing array and
+     * direct buffers through a view of the same memory.
+     */
+    static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        } else {
+            ByteBuffer view = buffer.slice();
+            view.limit(length);
+            value = StandardCharsets.UTF_8.decode(view).toString();
+        }
+
+        buffer.position(buffer.position() + length);
+
+        return value;
+    }
+
+    static int maxStringBytes(String value) {
+        return Short.BYTES + value.length() * 3 + Byte.BYTES;
+    }
+}
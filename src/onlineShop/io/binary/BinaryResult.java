@@ -0,0 +1,62 @@
+package onlineShop.io.binary;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Result frame of a binary command: a status byte followed by the controller's message.
+ */
+public class BinaryResult {
+    private final boolean successful;
+    private final String message;
+
+    public BinaryResult(boolean successful, String message) {
+        this.successful = successful;
+        this.message = message == null ? "" : message;
+    }
+
+    public boolean isSuccessful() {
+        return this.successful;
+    }
+
+    public String getMessage() {
+        return this.message;
+    }
+
+    public ByteBuffer encode() {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.allocate(BinaryProtocol.LENGTH_FIELD_BYTES + Byte.BYTES + bytes.length);
+        frame.putInt(Byte.BYTES + bytes.length);
+        frame.put(successful ? BinaryProtocol.STATUS_OK : BinaryProtocol.STATUS_ERROR);
+        frame.put(bytes);
+        frame.flip();
+
+        return frame;
+    }
+
+    /**
+     * Consumes one result frame from {@code buffer}.
+     */
+    public static BinaryResult decode(ByteBuffer buffer) {
+        int length = buffer.getInt();
+
+        if (length <= 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        byte status = buffer.get();
+        String message;
+        if (buffer.hasArray()) {
+            message = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length - Byte.BYTES, StandardCharsets.UTF_8);
+        } else {
+            ByteBuffer view = buffer.slice();
+            view.limit(length - Byte.BYTES);
+            message = StandardCharsets.UTF_8.decode(view).toString();
+        }
+
+        buffer.position(buffer.position() + length - Byte.BYTES);
+
+        return new BinaryResult(status == BinaryProtocol.STATUS_OK, message);
+    }
+}
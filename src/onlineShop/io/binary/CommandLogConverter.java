@@ -0,0 +1,84 @@
+package onlineShop.io.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts command logs between the text format and the binary frame format.
+ *
+ * <p>Usage: {@code CommandLogConverter (toBinary|toText) <input> <output>}
+ */
+public class CommandLogConverter {
+    private final BinaryCommandEncoder encoder;
+    private final BinaryCommandDecoder decoder;
+    private final TextCommandRenderer renderer;
+
+    public CommandLogConverter() {
+        this.encoder = new BinaryCommandEncoder();
+        this.decoder = new BinaryCommandDecoder();
+        this.renderer = new TextCommandRenderer();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3 || !(args[0].equals("toBinary") || args[0].equals("toText"))) {
+            System.out.println("Usage: CommandLogConverter (toBinary|toText) <input> <output>");
+            return;
+        }
+
+        CommandLogConverter converter = new CommandLogConverter();
+        Path input = Paths.get(args[1]);
+        Path output = Paths.get(args[2]);
+
+        if (args[0].equals("toBinary")) {
+            Files.write(output, converter.toBinary(Files.readAllLines(input, StandardCharsets.UTF_8)).array());
+        } else {
+            Files.write(output, converter.toText(ByteBuffer.wrap(Files.readAllBytes(input))), StandardCharsets.UTF_8);
+        }
+    }
+
+    public ByteBuffer toBinary(List<String> commandLines) {
+        List<ByteBuffer> frames = new ArrayList<>(commandLines.size());
+        int size = 0;
+
+        for (String line : commandLines) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            ByteBuffer frame = encoder.encode(line);
+            size += frame.remaining();
+            frames.add(frame);
+        }
+
+        ByteBuffer log = ByteBuffer.allocate(size);
+        frames.forEach(log::put);
+        log.flip();
+
+        return log;
+    }
+
+    public List<String> toText(ByteBuffer log) {
+        List<String> commandLines = new ArrayList<>();
+
+        while (log.hasRemaining()) {
+            if (!decoder.hasFrame(log)) {
+                throw new IllegalArgumentException("Binary command log ends with a truncated frame.");
+            }
+
+            try {
+                String line = decoder.execute(log, renderer);
+                commandLines.add(line);
+            } catch (NoSuchMethodException | ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return commandLines;
+    }
+}
@@ -0,0 +1,96 @@
+package onlineShop.io.binary;
+
+import onlineShop.common.enums.CommandType;
+import onlineShop.core.EngineImpl;
+import onlineShop.core.interfaces.Controller;
+import onlineShop.core.operations.Operation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Controller} that renders each call back into its text command instead of executing it.
+ */
+class TextCommandRenderer implements Controller {
+
+    @Override
+    public String addComputer(String computerType, int id, String manufacturer, String model, double price) {
+        return join(CommandType.AddComputer, computerType, id, manufacturer, model, price);
+    }
+
+    @Override
+    public String addPeripheral(int computerId, int id, String peripheralType, String manufacturer, String model, double price, double overallPerformance, String connectionType) {
+        return join(CommandType.AddPeripheral, computerId, id, peripheralType, manufacturer, model, price, overallPerformance, connectionType);
+    }
+
+    @Override
+    public String removePeripheral(String peripheralType, int computerId) {
+        return join(CommandType.RemovePeripheral, peripheralType, computerId);
+    }
+
+    @Override
+    public String addComponent(int computerId, int id, String componentType, String manufacturer, String model, double price, double overallPerformance, int generation) {
+        return join(CommandType.AddComponent, computerId, id, componentType, manufacturer, model, price, overallPerformance, generation);
+    }
+
+    @Override
+    public String removeComponent(String componentType, int computerId) {
+        return join(CommandType.RemoveComponent, componentType, computerId);
+    }
+
+    @Override
+    public String buyComputer(int id) {
+        return join(CommandType.BuyComputer, id);
+    }
+
+    @Override
+    public String BuyBestComputer(double budget) {
+        return join(CommandType.BuyBestComputer, budget);
+    }
+
+    @Override
+    public String getComputerData(int id) {
+        return join(CommandType.GetComputerData, id);
+    }
+
+    @Override
+    public String buyBestComputers(double[] budgets) {
+        return join(CommandType.BuyBestComputers, Arrays.stream(budgets).boxed().toArray());
+    }
+
+    @Override
+    public String getInventoryStats() {
+        return join(CommandType.InventoryStats);
+    }
+
+    @Override
+    public String getCatalogReport() {
+        return join(CommandType.CatalogReport);
+    }
+
+    @Override
+    public String executeTransaction(List<Operation> operations) {
+        return operations.stream()
+                .map(this::render)
+                .collect(Collectors.joining(" " + EngineImpl.TRANSACTION_SEPARATOR + " ", CommandType.Transaction.name() + " ", ""));
+    }
+
+    private String render(Operation operation) {
+        try {
+            return operation.applyTo(this);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String join(CommandType command, Object... arguments) {
+        StringBuilder line = new StringBuilder(command.name());
+
+        for (Object argument : arguments) {
+            line.append(' ').append(argument);
+        }
+
+        return line.toString();
+    }
+}
@@ -1,5 +1,9 @@
 package onlineShop.io.interfaces;
 
-public interface OutputWriter {
+public interface OutputWriter extends AutoCloseable {
     void writeLine(String text);
+
+    @Override
+    default void close() {
+    }
 }
@@ -2,7 +2,11 @@ package onlineShop.models.products;
 
 import onlineShop.common.constants.ExceptionMessages;
 
-public abstract class BaseProduct implements Product{
+import java.io.Serializable;
+
+public abstract class BaseProduct implements Product, Serializable {
+    private static final long serialVersionUID = 1L;
+
     protected int id;
     protected String manufacturer;
     protected String model;
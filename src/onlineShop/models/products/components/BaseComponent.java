@@ -3,6 +3,8 @@ package onlineShop.models.products.components;
 import onlineShop.models.products.BaseProduct;
 
 public abstract class BaseComponent extends BaseProduct implements Component {
+    private static final long serialVersionUID = 1L;
+
     private int generation;
 
     protected BaseComponent(int id, String manufacturer, String model, double price, double overallPerformance, int generation) {
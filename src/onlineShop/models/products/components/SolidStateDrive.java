@@ -1,6 +1,7 @@
 package onlineShop.models.products.components;
 
 public class SolidStateDrive extends BaseComponent{
+    private static final long serialVersionUID = 1L;
     private static final double MULTIPLIER = 1.20;
 
     public SolidStateDrive(int id, String manufacturer, String model, double price, double overallPerformance, int generation) {
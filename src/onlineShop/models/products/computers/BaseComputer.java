@@ -8,32 +8,40 @@ import onlineShop.models.products.Product;
 import onlineShop.models.products.components.Component;
 import onlineShop.models.products.peripherals.Peripheral;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 public abstract class BaseComputer extends BaseProduct implements Computer {
-    private List<Component> components;
-    private List<Peripheral> peripherals;
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Current version of the installed parts. Every mutation publishes a new immutable
+     * {@link Parts} instance, so readers always see a complete version and never block writers.
+     */
+    private volatile Parts parts;
 
     protected BaseComputer(int id, String manufacturer, String model, double price, double overallPerformance) {
         super(id, manufacturer, model, price, overallPerformance);
-        this.components = new ArrayList<>();
-        this.peripherals = new ArrayList<>();
+        this.parts = new Parts(List.of(), List.of());
     }
 
     @Override
     public List<Component> getComponents() {
-        return this.components;
+        return this.parts.components;
     }
 
     @Override
     public List<Peripheral> getPeripherals() {
-        return this.peripherals;
+        return this.parts.peripherals;
     }
 
     @Override
     public double getOverallPerformance() {
+        return this.getOverallPerformance(this.parts.components);
+    }
+
+    private double getOverallPerformance(List<Component> components) {
         if (components.isEmpty()) {
             return super.getOverallPerformance();
         }
@@ -45,6 +53,12 @@ public abstract class BaseComputer extends BaseProduct implements Computer {
 
     @Override
     public double getPrice() {
+        return this.getPrice(this.parts);
+    }
+
+    private double getPrice(Parts parts) {
+        List<Component> components = parts.components;
+        List<Peripheral> peripherals = parts.peripherals;
         double componentsPrice = components.stream().mapToDouble(Product::getPrice).sum();
         double peripheralsPrice = peripherals.stream().mapToDouble((Product::getPrice)).sum();
 
@@ -52,7 +66,9 @@ public abstract class BaseComputer extends BaseProduct implements Computer {
     }
 
     @Override
-    public void addComponent(Component component) {
+    public synchronized void addComponent(Component component) {
+        List<Component> components = this.parts.components;
+
         if (components.contains(component)){
             throw new IllegalArgumentException(String.format(ExceptionMessages.EXISTING_COMPONENT,
                     component.getClass().getSimpleName(),
@@ -60,11 +76,14 @@ public abstract class BaseComputer extends BaseProduct implements Computer {
                     this.getId()));
         }
 
-        components.add(component);
+        List<Component> newComponents = new ArrayList<>(components);
+        newComponents.add(component);
+        this.parts = new Parts(newComponents, this.parts.peripherals);
     }
 
     @Override
-    public Component removeComponent(String componentType) {
+    public synchronized Component removeComponent(String componentType) {
+        List<Component> components = new ArrayList<>(this.parts.components);
         boolean componentExist = false;
         Component currentComponent = null;
 
@@ -90,11 +109,15 @@ public abstract class BaseComputer extends BaseProduct implements Computer {
                     ));
         }
 
+        this.parts = new Parts(components, this.parts.peripherals);
+
         return currentComponent;
     }
 
     @Override
-    public void addPeripheral(Peripheral peripheral) {
+    public synchronized void addPeripheral(Peripheral peripheral) {
+        List<Peripheral> peripherals = this.parts.peripherals;
+
         if (peripherals.contains(peripheral)){
             throw new IllegalArgumentException(String.format(ExceptionMessages.EXISTING_PERIPHERAL,
                     peripheral.getClass().getSimpleName(),
@@ -102,11 +125,14 @@ public abstract class BaseComputer extends BaseProduct implements Computer {
                     this.getId()));
         }
 
-        peripherals.add(peripheral);
+        List<Peripheral> newPeripherals = new ArrayList<>(peripherals);
+        newPeripherals.add(peripheral);
+        this.parts = new Parts(this.parts.components, newPeripherals);
     }
 
     @Override
-    public Peripheral removePeripheral(String peripheralType) {
+    public synchronized Peripheral removePeripheral(String peripheralType) {
+        List<Peripheral> peripherals = new ArrayList<>(this.parts.peripherals);
         boolean peripheralExist = false;
         Peripheral currentPeripheral = null;
 
@@ -132,13 +158,65 @@ public abstract class BaseComputer extends BaseProduct implements Computer {
             ));
         }
 
+        this.parts = new Parts(this.parts.components, peripherals);
+
         return currentPeripheral;
     }
 
+    /**
+     * Installs all given parts as a single new version, so readers see either none or all of them.
+     */
+    @Override
+    public synchronized void addParts(List<Component> components, List<Peripheral> peripherals) {
+        Parts parts = this.parts;
+
+        for (Component component : components) {
+            if (parts.components.contains(component)) {
+                throw new IllegalArgumentException(String.format(ExceptionMessages.EXISTING_COMPONENT,
+                        component.getClass().getSimpleName(),
+                        this.getClass().getSimpleName(),
+                        this.getId()));
+            }
+        }
+
+        for (Peripheral peripheral : peripherals) {
+            if (parts.peripherals.contains(peripheral)) {
+                throw new IllegalArgumentException(String.format(ExceptionMessages.EXISTING_PERIPHERAL,
+                        peripheral.getClass().getSimpleName(),
+                        this.getClass().getSimpleName(),
+                        this.getId()));
+            }
+        }
+
+        List<Component> newComponents = new ArrayList<>(parts.components);
+        newComponents.addAll(components);
+        List<Peripheral> newPeripherals = new ArrayList<>(parts.peripherals);
+        newPeripherals.addAll(peripherals);
+        this.parts = new Parts(newComponents, newPeripherals);
+    }
+
+    @Override
+    public ComputerSnapshot snapshot() {
+        Parts parts = this.parts;
+
+        return new ComputerSnapshot(getId(), getClass().getSimpleName(), getManufacturer(), getModel(),
+                getPrice(parts), getOverallPerformance(parts.components), parts.components, parts.peripherals);
+    }
+
     @Override
     public String toString() {
+        Parts parts = this.parts;
+        List<Component> components = parts.components;
+        List<Peripheral> peripherals = parts.peripherals;
+
         StringBuilder result = new StringBuilder();
-        result.append(super.toString());
+        result.append(String.format(OutputMessages.PRODUCT_TO_STRING,
+                this.getOverallPerformance(components),
+                this.getPrice(parts),
+                getClass().getSimpleName(),
+                getManufacturer(),
+                getModel(),
+                getId()));
         result.append(System.lineSeparator());
         result.append(String.format(" " + OutputMessages.COMPUTER_COMPONENTS_TO_STRING, components.size()));
         result.append(System.lineSeparator());
@@ -157,4 +235,16 @@ public abstract class BaseComputer extends BaseProduct implements Computer {
 
         return result.toString().trim();
     }
+
+    private static final class Parts implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Component> components;
+        private final List<Peripheral> peripherals;
+
+        private Parts(List<Component> components, List<Peripheral> peripherals) {
+            this.components = List.copyOf(components);
+            this.peripherals = List.copyOf(peripherals);
+        }
+    }
 }
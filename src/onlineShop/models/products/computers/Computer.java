@@ -18,4 +18,8 @@ public interface Computer extends Product {
     void addPeripheral(Peripheral peripheral);
 
     Peripheral removePeripheral(String peripheralType);
+
+    void addParts(List<Component> components, List<Peripheral> peripherals);
+
+    ComputerSnapshot snapshot();
 }
\ No newline at end of file
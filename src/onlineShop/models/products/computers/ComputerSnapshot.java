@@ -0,0 +1,65 @@
+package onlineShop.models.products.computers;
+
+import onlineShop.models.products.components.Component;
+import onlineShop.models.products.peripherals.Peripheral;
+
+import java.util.List;
+
+/**
+ * Immutable view of a computer taken from a single parts version, so its price, performance and parts
+ * always agree with each other even while the computer is being changed.
+ */
+public final class ComputerSnapshot {
+    private final int id;
+    private final String type;
+    private final String manufacturer;
+    private final String model;
+    private final double price;
+    private final double overallPerformance;
+    private final List<Component> components;
+    private final List<Peripheral> peripherals;
+
+    ComputerSnapshot(int id, String type, String manufacturer, String model, double price, double overallPerformance,
+                     List<Component> components, List<Peripheral> peripherals) {
+        this.id = id;
+        this.type = type;
+        this.manufacturer = manufacturer;
+        this.model = model;
+        this.price = price;
+        this.overallPerformance = overallPerformance;
+        this.components = components;
+        this.peripherals = peripherals;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public String getType() {
+        return this.type;
+    }
+
+    public String getManufacturer() {
+        return this.manufacturer;
+    }
+
+    public String getModel() {
+        return this.model;
+    }
+
+    public double getPrice() {
+        return this.price;
+    }
+
+    public double getOverallPerformance() {
+        return this.overallPerformance;
+    }
+
+    public List<Component> getComponents() {
+        return this.components;
+    }
+
+    public List<Peripheral> getPeripherals() {
+        return this.peripherals;
+    }
+}
@@ -1,6 +1,7 @@
 package onlineShop.models.products.computers;
 
 public class DesktopComputer extends BaseComputer{
+    private static final long serialVersionUID = 1L;
     private static final double DESKTOP_OVERALLPERFORMANCE = 15;
 
     public DesktopComputer(int id, String manufacturer, String model, double price) {
@@ -1,6 +1,7 @@
 package onlineShop.models.products.computers;
 
 public class Laptop extends BaseComputer{
+    private static final long serialVersionUID = 1L;
     private static final double LAPTOP_OVERALLPERFORMANCE = 10;
 
     public Laptop(int id, String manufacturer, String model, double price) {
@@ -3,6 +3,8 @@ package onlineShop.models.products.peripherals;
 import onlineShop.models.products.BaseProduct;
 
 public abstract class BasePeripheral extends BaseProduct implements Peripheral {
+    private static final long serialVersionUID = 1L;
+
     private String connectionType;
 
     protected BasePeripheral(int id, String manufacturer, String model, double price, double overallPerformance, String connectionType) {
@@ -4,6 +4,7 @@ import onlineShop.models.products.BaseProduct;
 import onlineShop.models.products.components.BaseComponent;
 
 public class Headset extends BasePeripheral {
+    private static final long serialVersionUID = 1L;
     
     public Headset(int id, String manufacturer, String model, double price, double overallPerformance, String connectionType) {
         super(id, manufacturer, model, price, overallPerformance, connectionType);
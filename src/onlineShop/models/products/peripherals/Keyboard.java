@@ -3,6 +3,7 @@ package onlineShop.models.products.peripherals;
 import onlineShop.models.products.BaseProduct;
 
 public class Keyboard extends BasePeripheral {
+    private static final long serialVersionUID = 1L;
 
 
     public Keyboard(int id, String manufacturer, String model, double price, double overallPerformance, String connectionType) {
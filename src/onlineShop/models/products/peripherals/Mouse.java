@@ -3,6 +3,7 @@ package onlineShop.models.products.peripherals;
 import onlineShop.models.products.BaseProduct;
 
 public class Mouse extends BasePeripheral {
+    private static final long serialVersionUID = 1L;
 
     public Mouse(int id, String manufacturer, String model, double price, double overallPerformance, String connectionType) {
         super(id, manufacturer, model, price, overallPerformance, connectionType);
@@ -0,0 +1,192 @@
+package onlineShop.workload;
+
+import onlineShop.core.ControllerImpl;
+import onlineShop.core.EngineImpl;
+import onlineShop.core.OrderArchive;
+import onlineShop.core.TieredComputerStore;
+import onlineShop.io.interfaces.InputReader;
+import onlineShop.io.interfaces.OutputWriter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Drives an in-process {@link EngineImpl} with a generated workload and reports throughput and latency
+ * percentiles. With a target rate, latency is measured from each command's scheduled start, so stalls
+ * are charged to every command that had to wait behind them.
+ *
+ * <p>Usage: {@code ThroughputHarness [seed] [commandCount] [commandsPerSecond, 0 = flat out]
+ * [inventorySize] [hotCapacity, 0 = store default]}. A hot capacity below the inventory size exercises
+ * the cold tier.
+ */
+public class ThroughputHarness {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final WorkloadProfile profile;
+    private final double commandsPerSecond;
+    private final int hotCapacity;
+
+    public ThroughputHarness(WorkloadProfile profile, double commandsPerSecond) {
+        this(profile, commandsPerSecond, 0);
+    }
+
+    public ThroughputHarness(WorkloadProfile profile, double commandsPerSecond, int hotCapacity) {
+        if (commandsPerSecond < 0 || hotCapacity < 0) {
+            throw new IllegalArgumentException("Target rate and hot capacity can not be negative.");
+        }
+
+        this.profile = profile;
+        this.commandsPerSecond = commandsPerSecond;
+        this.hotCapacity = hotCapacity;
+    }
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : WorkloadProfile.defaultProfile().getSeed();
+        int commandCount = args.length > 1 ? Integer.parseInt(args[1]) : WorkloadProfile.defaultProfile().getCommandCount();
+        double rate = args.length > 2 ? Double.parseDouble(args[2]) : 0;
+        WorkloadProfile profile = args.length > 3
+                ? WorkloadProfile.defaultProfile(seed, commandCount).withInventorySize(Integer.parseInt(args[3]))
+                : WorkloadProfile.defaultProfile(seed, commandCount);
+        int hotCapacity = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+
+        ThroughputHarness harness = new ThroughputHarness(profile, rate, hotCapacity);
+        System.out.println(harness.run());
+    }
+
+    public String run() {
+        WorkloadGenerator generator = new WorkloadGenerator(profile);
+        TieredComputerStore store = hotCapacity > 0 ? new TieredComputerStore(hotCapacity, null) : new TieredComputerStore();
+        ControllerImpl controller = new ControllerImpl(new OrderArchive(), store);
+
+        List<String> setup = generator.generateSetup();
+        setup.add("Close");
+        new EngineImpl(controller, new ScriptedReader(setup::get, setup.size(), 0),
+                new RecordingWriter(setup.size(), reply -> { })).run();
+
+        int commandCount = profile.getCommandCount();
+        ScriptedReader reader = new ScriptedReader(
+                i -> i < commandCount ? generator.nextCommand() : "Close", commandCount + 1, commandsPerSecond);
+        RecordingWriter writer = new RecordingWriter(commandCount + 1,
+                reply -> generator.recordReply(reader.lastCommand, reply));
+
+        long start = System.nanoTime();
+        reader.start(start);
+        new EngineImpl(controller, reader, writer).run();
+        long elapsed = System.nanoTime() - start;
+
+        return report(writer.latencies(reader), elapsed, writer.errors);
+    }
+
+    private String report(long[] latencies, long elapsedNanos, int errors) {
+        Arrays.sort(latencies);
+
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("Commands: %d (rejected: %d) in %.3f s",
+                latencies.length, errors, elapsedNanos / (double) NANOS_PER_SECOND));
+        result.append(System.lineSeparator());
+        result.append(String.format("Throughput: %.0f commands/s",
+                latencies.length * (double) NANOS_PER_SECOND / Math.max(1, elapsedNanos)));
+
+        for (double percentile : PERCENTILES) {
+            result.append(System.lineSeparator());
+            result.append(String.format("p%s latency: %.1f us", percentile % 1 == 0 ? String.valueOf((int) percentile) : String.valueOf(percentile),
+                    percentileOf(latencies, percentile) / 1_000.0));
+        }
+
+        if (latencies.length > 0) {
+            result.append(System.lineSeparator());
+            result.append(String.format("max latency: %.1f us", latencies[latencies.length - 1] / 1_000.0));
+        }
+
+        return result.toString();
+    }
+
+    private static long percentileOf(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * Produces command {@code i} on the i-th read. Commands are built before the start time is taken, so
+     * generating them is not charged to the engine's latency.
+     */
+    private static class ScriptedReader implements InputReader {
+        private final IntFunction<String> commands;
+        private final long intervalNanos;
+        private final long[] startTimes;
+        private long origin;
+        private int position;
+        private String lastCommand;
+
+        private ScriptedReader(IntFunction<String> commands, int count, double commandsPerSecond) {
+            this.commands = commands;
+            this.intervalNanos = commandsPerSecond > 0 ? (long) (NANOS_PER_SECOND / commandsPerSecond) : 0;
+            this.startTimes = new long[count];
+        }
+
+        private void start(long origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public String readLine() {
+            lastCommand = commands.apply(position);
+            long now = System.nanoTime();
+
+            if (intervalNanos > 0) {
+                long scheduled = origin + position * intervalNanos;
+                while (now < scheduled) {
+                    LockSupport.parkNanos(scheduled - now);
+                    now = System.nanoTime();
+                }
+                now = scheduled;
+            }
+
+            startTimes[position++] = now;
+
+            return lastCommand;
+        }
+    }
+
+    private static class RecordingWriter implements OutputWriter {
+        private final long[] endTimes;
+        private final Consumer<String> replies;
+        private int position;
+        private int errors;
+
+        private RecordingWriter(int capacity, Consumer<String> replies) {
+            this.endTimes = new long[capacity];
+            this.replies = replies;
+        }
+
+        @Override
+        public void writeLine(String text) {
+            endTimes[position++] = System.nanoTime();
+            replies.accept(text);
+
+            if (text == null || !(text.contains("added successfully") || text.startsWith("Successfully removed")
+                    || text.startsWith("Overall Performance:"))) {
+                errors++;
+            }
+        }
+
+        private long[] latencies(ScriptedReader reader) {
+            long[] latencies = new long[position];
+
+            for (int i = 0; i < position; i++) {
+                latencies[i] = endTimes[i] - reader.startTimes[i];
+            }
+
+            return latencies;
+        }
+    }
+}
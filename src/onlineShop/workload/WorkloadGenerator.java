@@ -0,0 +1,203 @@
+package onlineShop.workload;
+
+import onlineShop.common.enums.CommandType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Produces reproducible text command streams for a {@link WorkloadProfile}. {@link #generateSetup()}
+ * lists the initial inventory and should be fed to the engine before the traffic produced by
+ * {@link #nextCommand()}, which continues from the ids the setup created. Every traffic reply has to be
+ * passed back through {@link #recordReply(String, String)}, so computers the engine chose to sell are
+ * no longer targeted; the same profile then always yields the same commands.
+ */
+public class WorkloadGenerator {
+    private static final String[] COMPUTER_TYPES = {"DesktopComputer", "Laptop"};
+    private static final String[] COMPONENT_TYPES = {"CentralProcessingUnit", "Motherboard", "PowerSupply",
+            "RandomAccessMemory", "SolidStateDrive", "VideoCard"};
+    private static final String[] PERIPHERAL_TYPES = {"Headset", "Keyboard", "Monitor", "Mouse"};
+    private static final String[] MANUFACTURERS = {"Dell", "Lenovo", "Asus", "Acer", "HP", "Intel", "AMD", "Logitech"};
+    private static final String[] MODELS = {"Alpha", "Beta", "Gamma", "Delta", "Omega", "Pro", "Max", "Lite"};
+    private static final String[] CONNECTION_TYPES = {"USB", "Bluetooth", "HDMI", "Wireless"};
+    private static final int MAX_SETUP_PARTS = 4;
+    private static final int MAX_GENERATION = 12;
+    private static final String SOLD_REPLY_PREFIX = "Overall Performance:";
+    private static final String ID_MARKER = "(Id: ";
+
+    private final WorkloadProfile profile;
+    private final Random random;
+    private final List<Integer> liveComputerIds;
+    private final Map<Integer, List<String>> installedComponents;
+    private final Map<Integer, List<String>> installedPeripherals;
+    private final CommandType[] commandTable;
+    private final int[] cumulativeWeights;
+    private int nextComputerId;
+    private int nextPartId;
+
+    public WorkloadGenerator(WorkloadProfile profile) {
+        this.profile = profile;
+        this.random = new Random(profile.getSeed());
+        this.liveComputerIds = new ArrayList<>();
+        this.installedComponents = new HashMap<>();
+        this.installedPeripherals = new HashMap<>();
+        this.commandTable = new CommandType[profile.getMix().size()];
+        this.cumulativeWeights = new int[profile.getMix().size()];
+        this.nextComputerId = 1;
+        this.nextPartId = 1;
+
+        int index = 0;
+        int total = 0;
+        for (Map.Entry<CommandType, Integer> entry : profile.getMix().entrySet()) {
+            total += entry.getValue();
+            commandTable[index] = entry.getKey();
+            cumulativeWeights[index] = total;
+            index++;
+        }
+    }
+
+    public List<String> generateSetup() {
+        List<String> commands = new ArrayList<>();
+
+        for (int i = 0; i < profile.getInventorySize(); i++) {
+            int computerId = nextComputerId;
+            commands.add(addComputer());
+
+            int parts = random.nextInt(MAX_SETUP_PARTS + 1);
+            for (int j = 0; j < parts; j++) {
+                commands.add(random.nextBoolean() ? addComponent(computerId) : addPeripheral(computerId));
+            }
+        }
+
+        return commands;
+    }
+
+    public String nextCommand() {
+        CommandType command = pickCommand();
+
+        if (command != CommandType.AddComputer && command != CommandType.BuyBestComputer && liveComputerIds.isEmpty()) {
+            command = CommandType.AddComputer;
+        }
+
+        switch (command) {
+            case AddComputer:
+                return addComputer();
+            case AddComponent:
+                return addComponent(randomComputerId());
+            case AddPeripheral:
+                return addPeripheral(randomComputerId());
+            case RemoveComponent:
+                return removePart("RemoveComponent", randomComputerId(), installedComponents, COMPONENT_TYPES);
+            case RemovePeripheral:
+                return removePart("RemovePeripheral", randomComputerId(), installedPeripherals, PERIPHERAL_TYPES);
+            case BuyComputer:
+                int soldId = liveComputerIds.get(random.nextInt(liveComputerIds.size()));
+                retire(soldId);
+                return String.format("BuyComputer %d", soldId);
+            case BuyBestComputer:
+                return String.format(Locale.ROOT, "BuyBestComputer %.2f", nextPrice() * (1 + MAX_SETUP_PARTS));
+            case GetComputerData:
+                return String.format("GetComputerData %d", randomComputerId());
+            default:
+                throw new IllegalArgumentException("Unsupported workload command " + command);
+        }
+    }
+
+    /**
+     * Updates the model with the engine's reply to {@code command}. {@code BuyBestComputer} is the only
+     * command whose effect the generator can not predict: the sold computer is read from the reply.
+     */
+    public void recordReply(String command, String reply) {
+        if (!command.startsWith(CommandType.BuyBestComputer.name())
+                || reply == null || !reply.startsWith(SOLD_REPLY_PREFIX)) {
+            return;
+        }
+
+        int start = reply.indexOf(ID_MARKER);
+        int end = reply.indexOf(')', start);
+        if (start >= 0 && end > start) {
+            retire(Integer.parseInt(reply.substring(start + ID_MARKER.length(), end)));
+        }
+    }
+
+    private void retire(int computerId) {
+        liveComputerIds.remove(Integer.valueOf(computerId));
+        installedComponents.remove(computerId);
+        installedPeripherals.remove(computerId);
+    }
+
+    private CommandType pickCommand() {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return commandTable[i];
+            }
+        }
+
+        return commandTable[commandTable.length - 1];
+    }
+
+    private String addComputer() {
+        int id = nextComputerId++;
+        liveComputerIds.add(id);
+
+        return String.format(Locale.ROOT, "AddComputer %s %d %s %s %.2f",
+                pick(COMPUTER_TYPES), id, pick(MANUFACTURERS), pick(MODELS), nextPrice());
+    }
+
+    private String addComponent(int computerId) {
+        String type = pick(COMPONENT_TYPES);
+        installedComponents.computeIfAbsent(computerId, id -> new ArrayList<>()).add(type);
+
+        return String.format(Locale.ROOT, "AddComponent %d %d %s %s %s %.2f %.2f %d",
+                computerId, nextPartId++, type, pick(MANUFACTURERS), pick(MODELS),
+                nextPrice(), nextPerformance(), 1 + random.nextInt(MAX_GENERATION));
+    }
+
+    private String addPeripheral(int computerId) {
+        String type = pick(PERIPHERAL_TYPES);
+        installedPeripherals.computeIfAbsent(computerId, id -> new ArrayList<>()).add(type);
+
+        return String.format(Locale.ROOT, "AddPeripheral %d %d %s %s %s %.2f %.2f %s",
+                computerId, nextPartId++, type, pick(MANUFACTURERS), pick(MODELS),
+                nextPrice(), nextPerformance(), pick(CONNECTION_TYPES));
+    }
+
+    /**
+     * Removes a part the computer is known to carry; computers without tracked parts get a random type,
+     * which exercises the engine's rejection path.
+     */
+    private String removePart(String command, int computerId, Map<Integer, List<String>> installed, String[] types) {
+        List<String> parts = installed.get(computerId);
+        String type = parts == null || parts.isEmpty()
+                ? pick(types)
+                : parts.remove(random.nextInt(parts.size()));
+
+        return String.format("%s %s %d", command, type, computerId);
+    }
+
+    private int randomComputerId() {
+        return liveComputerIds.get(random.nextInt(liveComputerIds.size()));
+    }
+
+    private double nextPrice() {
+        double price = profile.getMedianPrice() * Math.exp(random.nextGaussian() * profile.getPriceSpread());
+
+        return Math.max(0.01, price);
+    }
+
+    private double nextPerformance() {
+        double range = profile.getMaxPerformance() - profile.getMinPerformance();
+
+        return Math.max(0.01, profile.getMinPerformance() + random.nextDouble() * range);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,120 @@
+package onlineShop.workload;
+
+import onlineShop.common.enums.CommandType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Describes a synthetic workload: the random seed, its size and the relative weight of every command.
+ */
+public class WorkloadProfile {
+    private static final long DEFAULT_SEED = 42L;
+    private static final int DEFAULT_COMMAND_COUNT = 100_000;
+    private static final int DEFAULT_INVENTORY_SIZE = 1_000;
+    private static final double DEFAULT_MEDIAN_PRICE = 150;
+    private static final double DEFAULT_PRICE_SPREAD = 0.6;
+    private static final double DEFAULT_MIN_PERFORMANCE = 1;
+    private static final double DEFAULT_MAX_PERFORMANCE = 100;
+    private static final Set<CommandType> SUPPORTED_COMMANDS = EnumSet.of(CommandType.AddComputer,
+            CommandType.AddComponent, CommandType.AddPeripheral, CommandType.RemoveComponent,
+            CommandType.RemovePeripheral, CommandType.BuyComputer, CommandType.BuyBestComputer,
+            CommandType.GetComputerData);
+
+    private final long seed;
+    private final int commandCount;
+    private final int inventorySize;
+    private final Map<CommandType, Integer> mix;
+    private final double medianPrice;
+    private final double priceSpread;
+    private final double minPerformance;
+    private final double maxPerformance;
+
+    public WorkloadProfile(long seed, int commandCount, int inventorySize, Map<CommandType, Integer> mix,
+                           double medianPrice, double priceSpread, double minPerformance, double maxPerformance) {
+        if (commandCount < 0 || inventorySize < 0) {
+            throw new IllegalArgumentException("Workload sizes can not be negative.");
+        }
+
+        if (!SUPPORTED_COMMANDS.containsAll(mix.keySet())) {
+            throw new IllegalArgumentException("Workload mix can only contain " + SUPPORTED_COMMANDS + ".");
+        }
+
+        long totalWeight = mix.values().stream().mapToLong(w -> w).sum();
+        if (mix.values().stream().anyMatch(w -> w < 0) || totalWeight == 0 || totalWeight > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Workload mix must contain non-negative weights with a positive int total.");
+        }
+
+        if (medianPrice <= 0 || priceSpread < 0 || minPerformance <= 0 || maxPerformance < minPerformance) {
+            throw new IllegalArgumentException("Workload distributions are invalid.");
+        }
+
+        this.seed = seed;
+        this.commandCount = commandCount;
+        this.inventorySize = inventorySize;
+        this.mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+        this.medianPrice = medianPrice;
+        this.priceSpread = priceSpread;
+        this.minPerformance = minPerformance;
+        this.maxPerformance = maxPerformance;
+    }
+
+    public static WorkloadProfile defaultProfile(long seed, int commandCount) {
+        Map<CommandType, Integer> mix = new EnumMap<>(CommandType.class);
+        mix.put(CommandType.AddComputer, 5);
+        mix.put(CommandType.AddComponent, 20);
+        mix.put(CommandType.AddPeripheral, 15);
+        mix.put(CommandType.RemoveComponent, 5);
+        mix.put(CommandType.RemovePeripheral, 5);
+        mix.put(CommandType.BuyComputer, 2);
+        mix.put(CommandType.BuyBestComputer, 3);
+        mix.put(CommandType.GetComputerData, 45);
+
+        return new WorkloadProfile(seed, commandCount, DEFAULT_INVENTORY_SIZE, mix,
+                DEFAULT_MEDIAN_PRICE, DEFAULT_PRICE_SPREAD, DEFAULT_MIN_PERFORMANCE, DEFAULT_MAX_PERFORMANCE);
+    }
+
+    public static WorkloadProfile defaultProfile() {
+        return defaultProfile(DEFAULT_SEED, DEFAULT_COMMAND_COUNT);
+    }
+
+    public WorkloadProfile withInventorySize(int inventorySize) {
+        return new WorkloadProfile(seed, commandCount, inventorySize, mix,
+                medianPrice, priceSpread, minPerformance, maxPerformance);
+    }
+
+    public long getSeed() {
+        return this.seed;
+    }
+
+    public int getCommandCount() {
+        return this.commandCount;
+    }
+
+    public int getInventorySize() {
+        return this.inventorySize;
+    }
+
+    public Map<CommandType, Integer> getMix() {
+        return this.mix;
+    }
+
+    public double getMedianPrice() {
+        return this.medianPrice;
+    }
+
+    public double getPriceSpread() {
+        return this.priceSpread;
+    }
+
+    public double getMinPerformance() {
+        return this.minPerformance;
+    }
+
+    public double getMaxPerformance() {
+        return this.maxPerformance;
+    }
+}
@@ -0,0 +1,23 @@
+package onlineShop;
+
+import onlineShop.core.InventoryStatisticsTest;
+import onlineShop.core.OrderArchiveTest;
+import onlineShop.core.TieredComputerStoreTest;
+import onlineShop.core.TransactionTest;
+import onlineShop.io.AsyncOutputWriterTest;
+import onlineShop.io.binary.BinaryEngineTest;
+
+/**
+ * Runs every test class in order. Run with {@code java onlineShop.AllTests} after compiling {@code src}
+ * and {@code test}; each test class fails by throwing {@link AssertionError} through its {@code main}.
+ */
+public class AllTests {
+    public static void main(String[] args) throws Exception {
+        InventoryStatisticsTest.main(args);
+        OrderArchiveTest.main(args);
+        TieredComputerStoreTest.main(args);
+        TransactionTest.main(args);
+        AsyncOutputWriterTest.main(args);
+        BinaryEngineTest.main(args);
+    }
+}
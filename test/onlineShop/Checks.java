@@ -0,0 +1,15 @@
+package onlineShop;
+
+/**
+ * Assertion helper shared by the test classes, which run through {@link AllTests} without a test framework.
+ */
+public final class Checks {
+    private Checks() {
+    }
+
+    public static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package onlineShop.core;
+
+import onlineShop.core.operations.AddComputerOperation;
+import onlineShop.io.interfaces.InputReader;
+import onlineShop.io.interfaces.OutputWriter;
+import onlineShop.models.products.computers.Computer;
+import onlineShop.models.products.computers.Laptop;
+import onlineShop.workload.WorkloadGenerator;
+import onlineShop.workload.WorkloadProfile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static onlineShop.Checks.check;
+
+/**
+ * Checks that the incrementally maintained inventory statistics exactly match a full recomputation and
+ * that concurrent readers never see a partly applied transaction.
+ */
+public class InventoryStatisticsTest {
+    private static final long SEED = 7L;
+    private static final int COMMAND_COUNT = 20_000;
+    private static final int HOT_CAPACITY = 64;
+    private static final int TRANSACTION_COUNT = 5_000;
+    private static final Pattern COMPUTER_COUNT_PATTERN = Pattern.compile("Inventory: (\\d+) computers");
+
+    public static void main(String[] args) throws Exception {
+        incrementalStatisticsMatchRecomputation();
+        driftIsDetected();
+        readersSeeWholeTransactions();
+
+        System.out.println("InventoryStatisticsTest passed");
+    }
+
+    private static void incrementalStatisticsMatchRecomputation() {
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadProfile.defaultProfile(SEED, COMMAND_COUNT));
+        ControllerImpl controller = new ControllerImpl(new OrderArchive(), new TieredComputerStore(HOT_CAPACITY, null));
+
+        List<String> extra = new ArrayList<>();
+        extra.add("Transaction AddComputer Laptop 900001 Dell XPS 300 ; "
+                + "AddComponent 900001 900002 VideoCard Nv G 50 10 3 ; "
+                + "AddPeripheral 900001 900003 Mouse Logi M 5 2 USB");
+        extra.add("BuyBestComputers 150 300 450 600");
+
+        ScriptedReader reader = new ScriptedReader(generator, generator.generateSetup(), COMMAND_COUNT, extra);
+        List<String> replies = new ArrayList<>();
+        OutputWriter writer = reply -> {
+            replies.add(reply);
+            generator.recordReply(reader.lastCommand, reply);
+        };
+        new EngineImpl(controller, reader, writer).run();
+
+        check(replies.size() == reader.position - 1, "every command but Close should be answered");
+        check(replies.stream().noneMatch(r -> r.startsWith("Transaction aborted")), "the transaction should apply");
+        check(controller.inventoryStatsMatchRecomputation(), "statistics drifted from a full recomputation");
+    }
+
+    /**
+     * Every transaction adds two computers, so the statistics read at any moment must count an even number.
+     */
+    private static void readersSeeWholeTransactions() throws Exception {
+        ControllerImpl controller = new ControllerImpl(new OrderArchive(), new TieredComputerStore(HOT_CAPACITY, null));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger torn = new AtomicInteger();
+        AtomicInteger reads = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                Matcher count = COMPUTER_COUNT_PATTERN.matcher(controller.getInventoryStats());
+                if (!count.lookingAt() || Integer.parseInt(count.group(1)) % 2 != 0) {
+                    torn.incrementAndGet();
+                }
+                reads.incrementAndGet();
+            }
+        });
+        reader.start();
+
+        try {
+            for (int i = 0; i < TRANSACTION_COUNT; i++) {
+                controller.executeTransaction(List.of(
+                        new AddComputerOperation("Laptop", 2 * i + 1, "Dell", "XPS", 100),
+                        new AddComputerOperation("DesktopComputer", 2 * i + 2, "HP", "Omen", 200)));
+            }
+            controller.buyBestComputers(new double[]{500, 500});
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+
+        check(reads.get() > 0, "no statistics read ran alongside the transactions");
+        check(torn.get() == 0, torn.get() + " of " + reads.get() + " statistics reads saw half a transaction");
+    }
+
+    private static void driftIsDetected() {
+        Computer laptop = new Laptop(1, "Dell", "XPS", 100);
+        InventoryStatistics statistics = InventoryStatistics.of(Stream.of(laptop.snapshot()));
+
+        check(statistics.matches(InventoryStatistics.of(Stream.of(laptop.snapshot()))), "equal statistics should match");
+        check(!statistics.matches(InventoryStatistics.of(Stream.empty())), "different statistics should not match");
+    }
+
+    /**
+     * Feeds the setup, then the generated traffic, then the extra commands and finally {@code Close}.
+     */
+    private static class ScriptedReader implements InputReader {
+        private final WorkloadGenerator generator;
+        private final List<String> setup;
+        private final int trafficCount;
+        private final List<String> extra;
+        private int position;
+        private String lastCommand;
+
+        private ScriptedReader(WorkloadGenerator generator, List<String> setup, int trafficCount, List<String> extra) {
+            this.generator = generator;
+            this.setup = setup;
+            this.trafficCount = trafficCount;
+            this.extra = extra;
+        }
+
+        @Override
+        public String readLine() {
+            int index = position++;
+
+            if (index < setup.size()) {
+                lastCommand = setup.get(index);
+            } else if (index < setup.size() + trafficCount) {
+                lastCommand = generator.nextCommand();
+            } else if (index < setup.size() + trafficCount + extra.size()) {
+                lastCommand = extra.get(index - setup.size() - trafficCount);
+            } else {
+                lastCommand = "Close";
+            }
+
+            return lastCommand;
+        }
+    }
+}
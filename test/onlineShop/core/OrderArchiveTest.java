@@ -0,0 +1,117 @@
+package onlineShop.core;
+
+import onlineShop.common.constants.ExceptionMessages;
+import onlineShop.models.products.components.VideoCard;
+import onlineShop.models.products.computers.Computer;
+import onlineShop.models.products.computers.Laptop;
+import onlineShop.models.products.peripherals.Mouse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static onlineShop.Checks.check;
+
+/**
+ * Checks that the archive keeps the most recently used orders in memory, spills the rest to its file in
+ * eviction order, recovers its window after failed spills, and keeps the ids of sold parts reserved.
+ */
+public class OrderArchiveTest {
+    private static final String SEPARATOR = System.lineSeparator() + System.lineSeparator();
+
+    public static void main(String[] args) throws Exception {
+        leastRecentlyUsedOrdersAreSpilled();
+        windowShrinksAfterFailedSpills();
+        soldPartIdsStayReserved();
+
+        System.out.println("OrderArchiveTest passed");
+    }
+
+    private static void leastRecentlyUsedOrdersAreSpilled() throws Exception {
+        Path archiveFile = Files.createTempFile("sold-orders", ".log");
+        archiveFile.toFile().deleteOnExit();
+        OrderArchive archive = new OrderArchive(2, archiveFile);
+        Computer first = computer(1);
+        Computer second = computer(2);
+
+        long firstOrder = archive.archive(first);
+        long secondOrder = archive.archive(second);
+        archive.getRecentOrder(firstOrder);
+        long thirdOrder = archive.archive(computer(3));
+
+        check(archive.getRecentOrdersCount() == 2, "window should hold two orders");
+        check(archive.getRecentOrder(secondOrder) == null, "least recently used order should be spilled");
+        check(archive.getRecentOrder(firstOrder) != null, "recently read order should stay in memory");
+        check(archive.getRecentOrder(thirdOrder) != null, "newest order should stay in memory");
+
+        archive.getRecentOrder(thirdOrder);
+        archive.archive(computer(4));
+
+        check(archive.getRecentOrder(firstOrder) == null, "order read before the newest should be spilled next");
+        String expected = second + SEPARATOR + first + SEPARATOR;
+        check(Files.readString(archiveFile, StandardCharsets.UTF_8).equals(expected),
+                "archive file should hold the spilled orders in eviction order");
+    }
+
+    private static void windowShrinksAfterFailedSpills() throws Exception {
+        Path directory = Files.createTempDirectory("order-archive");
+        directory.toFile().deleteOnExit();
+        Path archiveFile = directory.resolve("missing").resolve("sold-orders.log");
+        OrderArchive archive = new OrderArchive(2, archiveFile);
+
+        for (int id = 1; id <= 5; id++) {
+            archive.archive(computer(id));
+        }
+        check(archive.getRecentOrdersCount() == 5, "orders should be kept while spills fail");
+
+        Files.createDirectory(archiveFile.getParent());
+        archiveFile.getParent().toFile().deleteOnExit();
+        archiveFile.toFile().deleteOnExit();
+        archive.archive(computer(6));
+
+        check(archive.getRecentOrdersCount() == 2,
+                "window should shrink back to capacity, holds " + archive.getRecentOrdersCount());
+        check(Files.readString(archiveFile, StandardCharsets.UTF_8).split(SEPARATOR).length == 4,
+                "every overflowing order should be spilled once the file is writable");
+    }
+
+    private static void soldPartIdsStayReserved() throws Exception {
+        ControllerImpl controller = new ControllerImpl();
+        controller.addComputer("Laptop", 1, "Dell", "XPS", 300);
+        controller.addComponent(1, 10, "VideoCard", "Nv", "G", 50, 10, 3);
+        controller.addComponent(1, 11, "Motherboard", "Asus", "B", 80, 20, 3);
+        controller.addPeripheral(1, 20, "Mouse", "Logi", "M", 5, 2, "USB");
+        controller.removeComponent("Motherboard", 1);
+        controller.buyComputer(1);
+        controller.addComputer("Laptop", 2, "Dell", "XPS", 300);
+
+        check(rejection(() -> controller.addComponent(2, 10, "VideoCard", "Nv", "G", 50, 10, 3))
+                .equals(ExceptionMessages.EXISTING_COMPONENT_ID), "sold component id should stay reserved");
+        check(rejection(() -> controller.addPeripheral(2, 20, "Mouse", "Logi", "M", 5, 2, "USB"))
+                .equals(ExceptionMessages.EXISTING_PERIPHERAL_ID), "sold peripheral id should stay reserved");
+        check(rejection(() -> controller.addComponent(2, 0, "VideoCard", "Nv", "G", 50, 10, 3))
+                .equals(ExceptionMessages.INVALID_PRODUCT_ID), "ids that are not positive should fail validation");
+        check(rejection(() -> controller.addComponent(2, 11, "Motherboard", "Asus", "B", 80, 20, 3)) == null,
+                "component removed before the sale should be free to reuse");
+    }
+
+    private static Computer computer(int id) {
+        Computer computer = new Laptop(id, "Dell", "XPS", 300);
+        computer.addComponent(new VideoCard(100 + id, "Nv", "G", 50, 10, 3));
+        computer.addPeripheral(new Mouse(200 + id, "Logi", "M", 5, 2, "USB"));
+
+        return computer;
+    }
+
+    /**
+     * Returns the message {@code command} was rejected with, or {@code null} when it succeeded.
+     */
+    private static String rejection(Runnable command) {
+        try {
+            command.run();
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package onlineShop.core;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static onlineShop.Checks.check;
+
+/**
+ * Checks the cold tier: concurrent reads never evict a computer a writer is mutating, and buys pick the
+ * same computers whether the inventory is hot or cold.
+ */
+public class TieredComputerStoreTest {
+    private static final int PERIPHERAL_COUNT = 5_000;
+    private static final int COMPUTER_COUNT = 500;
+    private static final int COLD_HOT_CAPACITY = 8;
+    private static final long SEED = 11L;
+
+    public static void main(String[] args) throws Exception {
+        readersDoNotLoseUpdates();
+        coldReadsDoNotPromote();
+        coldBuysMatchHotBuys();
+        coldReadsRunAlongsideEvictions();
+
+        System.out.println("TieredComputerStoreTest passed");
+    }
+
+    private static void readersDoNotLoseUpdates() throws Exception {
+        TieredComputerStore store = new TieredComputerStore(1, null);
+        ControllerImpl controller = new ControllerImpl(new OrderArchive(), store);
+        controller.addComputer("Laptop", 1, "Dell", "XPS", 100);
+        controller.addComputer("DesktopComputer", 2, "HP", "Omen", 200);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                controller.getComputerData(2);
+                controller.getComputerData(1);
+            }
+        });
+        reader.start();
+
+        try {
+            for (int id = 1; id <= PERIPHERAL_COUNT; id++) {
+                controller.addPeripheral(1, id, "Mouse", "Logitech", "M" + id, 5, 2, "USB");
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+
+        check(store.peek(1).getPeripherals().size() == PERIPHERAL_COUNT, "peripherals were lost");
+        check(controller.inventoryStatsMatchRecomputation(), "statistics drifted from a full recomputation");
+    }
+
+    /**
+     * Buying from a store whose inventory is almost entirely cold picks exactly the computers an all-hot
+     * store picks, from the in-memory index.
+     */
+    private static void coldBuysMatchHotBuys() throws Exception {
+        ControllerImpl cold = new ControllerImpl(new OrderArchive(), new TieredComputerStore(COLD_HOT_CAPACITY, null));
+        ControllerImpl hot = new ControllerImpl(new OrderArchive(), new TieredComputerStore());
+
+        for (ControllerImpl controller : List.of(cold, hot)) {
+            Random random = new Random(SEED);
+            for (int id = 1; id <= COMPUTER_COUNT; id++) {
+                controller.addComputer(id % 2 == 0 ? "Laptop" : "DesktopComputer", id, "Dell", "XPS", 50 + random.nextInt(200));
+                controller.addComponent(id, id, "VideoCard", "Nv", "G", 10 + random.nextInt(100), 1 + random.nextInt(50), 3);
+                controller.addPeripheral(id, id, "Mouse", "Logi", "M", 5, 2, "USB");
+            }
+        }
+
+        for (int step = 0; step <= 15; step++) {
+            double budget = 60 + step * 20;
+            check(reply(() -> cold.BuyBestComputer(budget)).equals(reply(() -> hot.BuyBestComputer(budget))),
+                    "cold and hot stores sold different computers for budget " + budget);
+        }
+
+        double[] budgets = {100, 400, 150, 250, 80, 300, 120};
+        check(cold.buyBestComputers(budgets).equals(hot.buyBestComputers(budgets)), "batch buys differ");
+        check(cold.inventoryStatsMatchRecomputation(), "statistics drifted from a full recomputation");
+    }
+
+    /**
+     * Cold computers are read outside the store lock while a writer keeps appending evicted computers to
+     * the same file; every read must still return the computer as it was written.
+     */
+    private static void coldReadsRunAlongsideEvictions() throws Exception {
+        TieredComputerStore store = new TieredComputerStore(1, null);
+        ControllerImpl controller = new ControllerImpl(new OrderArchive(), store);
+        for (int id = 1; id <= COMPUTER_COUNT; id++) {
+            controller.addComputer("Laptop", id, "Dell", "XPS", 100);
+            for (int part = 0; part < id % 3; part++) {
+                controller.addPeripheral(id, id * 3 + part, part == 0 ? "Mouse" : "Keyboard", "Logi", "M", 5, 2, "USB");
+            }
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean corrupted = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            Random random = new Random(SEED);
+            while (running.get()) {
+                int id = 1 + random.nextInt(COMPUTER_COUNT);
+                if (store.peek(id).getPeripherals().size() != id % 3) {
+                    corrupted.set(true);
+                }
+            }
+        });
+        reader.start();
+
+        try {
+            for (int id = COMPUTER_COUNT + 1; id <= COMPUTER_COUNT * 4; id++) {
+                controller.addComputer("DesktopComputer", id, "HP", "Omen", 200);
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+
+        check(!corrupted.get(), "a cold read returned a wrong computer");
+    }
+
+    private static String reply(Callable<String> command) throws Exception {
+        try {
+            return command.call();
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static void coldReadsDoNotPromote() throws Exception {
+        TieredComputerStore store = new TieredComputerStore(1, null);
+        ControllerImpl controller = new ControllerImpl(new OrderArchive(), store);
+        controller.addComputer("Laptop", 1, "Dell", "XPS", 100);
+        controller.addComputer("Laptop", 2, "Dell", "XPS", 100);
+
+        controller.getComputerData(1);
+
+        check(store.hotSize() == 1 && store.peek(2) == store.peek(2), "a cold read promoted a computer");
+    }
+}
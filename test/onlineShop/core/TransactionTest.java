@@ -0,0 +1,156 @@
+package onlineShop.core;
+
+import onlineShop.core.operations.AddComponentOperation;
+import onlineShop.core.operations.AddComputerOperation;
+import onlineShop.core.operations.AddPeripheralOperation;
+import onlineShop.core.operations.Operation;
+import onlineShop.io.binary.BinaryCommandDecoder;
+import onlineShop.io.binary.BinaryCommandEncoder;
+import onlineShop.models.products.computers.ComputerSnapshot;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static onlineShop.Checks.check;
+
+/**
+ * Checks that transactions parse the same from text and binary input and stay all or nothing, both when
+ * the store fails and for concurrent readers.
+ */
+public class TransactionTest {
+    private static final int REPORT_HOT_CAPACITY = 16;
+    private static final int REPORT_TRANSACTIONS = 2_000;
+    private static final String TRANSACTION = "Transaction AddComputer Laptop 3 Dell XPS 300 ; "
+            + "AddComponent 3 10 VideoCard Nv G 50 10 3 ; "
+            + "AddPeripheral 1 20 Mouse Logi M 5 2 USB";
+
+    public static void main(String[] args) throws Exception {
+        textAndBinaryInputAgree();
+        malformedCommandAbortsWithItsPosition();
+        storeFailureChangesNothing();
+        reportsSeeWholeTransactions();
+
+        System.out.println("TransactionTest passed");
+    }
+
+    private static void textAndBinaryInputAgree() throws Exception {
+        ControllerImpl textController = controllerWithComputer();
+        List<String> replies = new ArrayList<>();
+        List<String> input = List.of(TRANSACTION, "Close");
+        new EngineImpl(textController, new ArrayDeque<>(input)::poll, replies::add).run();
+
+        ControllerImpl binaryController = controllerWithComputer();
+        String binaryReply = new BinaryCommandDecoder().execute(new BinaryCommandEncoder().encode(TRANSACTION), binaryController);
+
+        check(replies.size() == 1 && replies.get(0).equals(binaryReply), "text and binary transactions differ");
+        check(binaryReply.split(System.lineSeparator()).length == 3, "every operation should be reported");
+        check(textController.getInventoryStats().equals(binaryController.getInventoryStats()), "inventories differ");
+    }
+
+    private static void malformedCommandAbortsWithItsPosition() throws Exception {
+        ControllerImpl controller = controllerWithComputer();
+        List<String> replies = new ArrayList<>();
+        List<String> input = List.of("Transaction AddComputer Laptop 3 Dell XPS 300 ; AddComponent 3 x", "Close");
+        new EngineImpl(controller, new ArrayDeque<>(input)::poll, replies::add).run();
+
+        check(replies.get(0).startsWith("Transaction aborted at command 2"), "unexpected reply " + replies.get(0));
+        check(controller.inventoryStatsMatchRecomputation(), "statistics drifted from a full recomputation");
+    }
+
+    private static void storeFailureChangesNothing() throws Exception {
+        Path spillFile = Files.createTempFile("computers", ".cold");
+        spillFile.toFile().deleteOnExit();
+        TieredComputerStore store = new TieredComputerStore(1, spillFile);
+        ControllerImpl controller = new ControllerImpl(new OrderArchive(), store);
+        controller.addComputer("Laptop", 1, "Dell", "XPS", 100);
+        controller.addComputer("Laptop", 2, "Dell", "XPS", 100);
+
+        try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        }
+
+        List<Operation> operations = List.of(
+                new AddComponentOperation(2, 10, "VideoCard", "Nv", "G", 50, 10, 3),
+                new AddPeripheralOperation(1, 20, "Mouse", "Logi", "M", 5, 2, "USB"),
+                new AddComputerOperation("Laptop", 3, "Dell", "XPS", 300));
+
+        String message = null;
+        try {
+            controller.executeTransaction(operations);
+        } catch (IllegalArgumentException e) {
+            message = e.getMessage();
+        }
+
+        check(message != null && message.startsWith("Transaction aborted at command 2"), "unexpected reply " + message);
+        check(store.peek(2).getComponents().isEmpty(), "a computer was changed by an aborted transaction");
+        check(!store.containsKey(3), "a computer was added by an aborted transaction");
+        controller.addComponent(2, 10, "VideoCard", "Nv", "G", 50, 10, 3);
+    }
+
+    /**
+     * Every transaction adds two computers and then a component to each of them, so a catalog report taken
+     * at any moment must count an even number of computers and of components.
+     */
+    private static void reportsSeeWholeTransactions() throws Exception {
+        TieredComputerStore store = new TieredComputerStore(REPORT_HOT_CAPACITY, null);
+        ControllerImpl controller = new ControllerImpl(new OrderArchive(), store);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger torn = new AtomicInteger();
+        AtomicInteger reports = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                CatalogReport report;
+                try (Stream<ComputerSnapshot> computers = store.snapshots()) {
+                    report = CatalogReport.of(computers);
+                }
+
+                if (count(report.getByComputerType()) % 2 != 0 || count(report.getByGeneration()) % 2 != 0) {
+                    torn.incrementAndGet();
+                }
+                reports.incrementAndGet();
+            }
+        });
+        reader.start();
+
+        try {
+            for (int i = 0; i < REPORT_TRANSACTIONS; i++) {
+                int first = 2 * i + 1;
+                int second = 2 * i + 2;
+                controller.executeTransaction(List.of(
+                        new AddComputerOperation("Laptop", first, "Dell", "XPS", 100),
+                        new AddComputerOperation("DesktopComputer", second, "HP", "Omen", 200)));
+                controller.executeTransaction(List.of(
+                        new AddComponentOperation(first, first, "VideoCard", "Nv", "G", 50, 10, 3),
+                        new AddComponentOperation(second, second, "Motherboard", "Asus", "Z", 80, 20, 4)));
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+
+        check(reports.get() > 0, "no report ran alongside the transactions");
+        check(torn.get() == 0, torn.get() + " of " + reports.get() + " reports saw half a transaction");
+    }
+
+    private static long count(Map<?, CatalogReport.Distribution> groups) {
+        return groups.values().stream().mapToLong(d -> d.getPrices().getCount()).sum();
+    }
+
+    private static ControllerImpl controllerWithComputer() throws Exception {
+        ControllerImpl controller = new ControllerImpl(new OrderArchive(), new TieredComputerStore(1, null));
+        controller.addComputer("DesktopComputer", 1, "HP", "Omen", 200);
+        controller.addComputer("Laptop", 2, "Asus", "Zen", 150);
+
+        return controller;
+    }
+}
@@ -0,0 +1,128 @@
+package onlineShop.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static onlineShop.Checks.check;
+
+/**
+ * Checks that the writer delivers every line in order when producers outrun a slow channel, and that a
+ * failing channel surfaces to the producer instead of blocking it or dropping the error.
+ */
+public class AsyncOutputWriterTest {
+    private static final int RING_CAPACITY = 4;
+    private static final int LINE_COUNT = 500;
+    private static final int SLOW_WRITE_BYTES = 16;
+
+    public static void main(String[] args) throws Exception {
+        slowChannelReceivesEveryLineInOrder();
+        failingChannelSurfacesAsUncheckedIOException();
+
+        System.out.println("AsyncOutputWriterTest passed");
+    }
+
+    private static void slowChannelReceivesEveryLineInOrder() {
+        SlowChannel channel = new SlowChannel();
+        AsyncOutputWriter writer = new AsyncOutputWriter(channel, RING_CAPACITY, true);
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            String line = "line " + i;
+            writer.writeLine(line);
+            expected.append(line).append(System.lineSeparator());
+        }
+        writer.close();
+
+        check(!channel.isOpen(), "an owned channel should be closed");
+        check(channel.written().equals(expected.toString()), "lines were lost or reordered");
+    }
+
+    private static void failingChannelSurfacesAsUncheckedIOException() {
+        AsyncOutputWriter writer = new AsyncOutputWriter(new FailingChannel(), RING_CAPACITY, false);
+
+        UncheckedIOException writeFailure = null;
+        for (int i = 0; i < LINE_COUNT && writeFailure == null; i++) {
+            try {
+                writer.writeLine("line " + i);
+            } catch (UncheckedIOException e) {
+                writeFailure = e;
+            }
+        }
+
+        UncheckedIOException closeFailure = null;
+        try {
+            writer.close();
+        } catch (UncheckedIOException e) {
+            closeFailure = e;
+        }
+
+        check(writeFailure != null, "a producer outrunning a failed channel should see the failure");
+        check(closeFailure != null, "close should report the failure");
+        check(FailingChannel.MESSAGE.equals(closeFailure.getCause().getMessage()), "failure cause was replaced");
+    }
+
+    /**
+     * Accepts at most {@value #SLOW_WRITE_BYTES} bytes per call and pauses before each write, so the ring
+     * fills up and producers have to wait for the writer thread.
+     */
+    private static class SlowChannel implements WritableByteChannel {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private volatile boolean open = true;
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+
+            int count = Math.min(source.remaining(), SLOW_WRITE_BYTES);
+            byte[] chunk = new byte[count];
+            source.get(chunk);
+            synchronized (bytes) {
+                bytes.write(chunk, 0, count);
+            }
+
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        String written() {
+            synchronized (bytes) {
+                return bytes.toString(StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private static class FailingChannel implements WritableByteChannel {
+        static final String MESSAGE = "disk full";
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            throw new IOException(MESSAGE);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
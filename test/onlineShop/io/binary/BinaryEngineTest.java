@@ -0,0 +1,146 @@
+package onlineShop.io.binary;
+
+import onlineShop.common.enums.CommandType;
+import onlineShop.core.ControllerImpl;
+import onlineShop.core.EngineImpl;
+import onlineShop.io.interfaces.InputReader;
+import onlineShop.workload.WorkloadGenerator;
+import onlineShop.workload.WorkloadProfile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import static onlineShop.Checks.check;
+
+/**
+ * Checks that a generated command log converts to binary and back unchanged, that the text and binary
+ * engines answer it alike, and that a malformed frame is rejected without stopping the binary engine.
+ */
+public class BinaryEngineTest {
+    private static final long SEED = 42;
+    private static final int INVENTORY_SIZE = 2_000;
+    private static final int TRAFFIC_COMMANDS = 20_000;
+    private static final int BATCH_COMMAND_INTERVAL = 500;
+
+    public static void main(String[] args) throws Exception {
+        List<String> log = new ArrayList<>();
+        List<String> textReplies = runTextEngine(log);
+
+        converterRoundTripsLog(log);
+        textAndBinaryEnginesAgree(log, textReplies);
+        negativeBudgetCountIsRejected();
+
+        System.out.println("BinaryEngineTest passed");
+    }
+
+    /**
+     * Runs a generated workload through the text engine, recording every command into {@code log} and
+     * returning the replies. Batch commands the generator does not produce are mixed in at fixed intervals.
+     */
+    private static List<String> runTextEngine(List<String> log) {
+        WorkloadGenerator generator = new WorkloadGenerator(
+                WorkloadProfile.defaultProfile(SEED, TRAFFIC_COMMANDS).withInventorySize(INVENTORY_SIZE));
+        List<String> setup = generator.generateSetup();
+        int total = setup.size() + TRAFFIC_COMMANDS;
+
+        InputReader reader = () -> {
+            int index = log.size();
+            String line;
+            if (index < setup.size()) {
+                line = setup.get(index);
+            } else if (index < total) {
+                line = index % BATCH_COMMAND_INTERVAL == 0 ? batchCommand(index) : generator.nextCommand();
+            } else {
+                line = "Close";
+            }
+
+            log.add(line);
+            return line;
+        };
+
+        List<String> replies = new ArrayList<>();
+        new EngineImpl(new ControllerImpl(), reader, reply -> {
+            replies.add(reply);
+            generator.recordReply(log.get(log.size() - 1), reply);
+        }).run();
+
+        return replies;
+    }
+
+    private static String batchCommand(int index) {
+        switch (index / BATCH_COMMAND_INTERVAL % 4) {
+            case 0:
+                return "InventoryStats";
+            case 1:
+                return "CatalogReport";
+            case 2:
+                return "BuyBestComputers 800.5 1200 2500.25";
+            default:
+                int id = 1_000_000 + index;
+                return "Transaction AddComputer Laptop " + id + " Dell XPS 300 ; "
+                        + "AddComponent " + id + " " + id + " VideoCard Nv G 50 10 3 ; "
+                        + "AddPeripheral " + id + " " + (id + 1) + " Mouse Logi M 5 2 USB";
+        }
+    }
+
+    private static void converterRoundTripsLog(List<String> log) {
+        CommandLogConverter converter = new CommandLogConverter();
+        ByteBuffer binary = converter.toBinary(log);
+        List<String> text = converter.toText(binary.duplicate());
+
+        check(text.size() == log.size(), "converted log has " + text.size() + " commands, expected " + log.size());
+        check(converter.toBinary(text).equals(binary), "log changed in a binary, text, binary round trip");
+    }
+
+    private static void textAndBinaryEnginesAgree(List<String> log, List<String> textReplies) {
+        ByteBuffer binary = new CommandLogConverter().toBinary(log);
+        List<BinaryResult> results = runBinaryEngine(binary);
+
+        check(results.size() == textReplies.size(),
+                "binary engine gave " + results.size() + " replies, text engine " + textReplies.size());
+        for (int i = 0; i < results.size(); i++) {
+            check(results.get(i).getMessage().equals(textReplies.get(i)), "replies differ at command " + (i + 1));
+        }
+    }
+
+    private static void negativeBudgetCountIsRejected() {
+        BinaryCommandEncoder encoder = new BinaryCommandEncoder();
+        ByteBuffer malformed = ByteBuffer.allocate(BinaryProtocol.LENGTH_FIELD_BYTES + Byte.BYTES + Integer.BYTES);
+        malformed.putInt(Byte.BYTES + Integer.BYTES);
+        malformed.put(BinaryProtocol.opcode(CommandType.BuyBestComputers));
+        malformed.putInt(-1);
+        malformed.flip();
+
+        ByteBuffer stats = encoder.encode("InventoryStats");
+        ByteBuffer close = encoder.encode("Close");
+        ByteBuffer input = ByteBuffer.allocate(malformed.remaining() + stats.remaining() + close.remaining());
+        input.put(malformed).put(stats).put(close).flip();
+
+        List<BinaryResult> results = runBinaryEngine(input);
+
+        check(results.size() == 2, "engine should answer both frames, got " + results.size());
+        check(!results.get(0).isSuccessful(), "negative budget count should be rejected");
+        check(results.get(1).isSuccessful(), "engine should keep serving after a malformed frame");
+    }
+
+    private static List<BinaryResult> runBinaryEngine(ByteBuffer input) {
+        byte[] bytes = new byte[input.remaining()];
+        input.get(bytes);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        new BinaryEngine(new ControllerImpl(), Channels.newChannel(new ByteArrayInputStream(bytes)),
+                Channels.newChannel(output)).run();
+
+        ByteBuffer frames = ByteBuffer.wrap(output.toByteArray());
+        List<BinaryResult> results = new ArrayList<>();
+        while (frames.hasRemaining()) {
+            results.add(BinaryResult.decode(frames));
+        }
+
+        return results;
+    }
+}